@@ -1,18 +1,14 @@
 package com.example.ChessParadox.Classic;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.util.AttributeSet;
 import android.view.View;
 
-import com.example.ChessParadox.Pieces.Piece;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
+import com.example.ChessParadox.Engine.PieceType;
 
 /**
  * Custom view to display captured pieces on the side of the chess board
@@ -21,19 +17,20 @@ public class CapturedPiecesView extends View {
     private static final int PIECE_SPACING = 5; // Spacing between pieces in dp
     private static final float SCALE_FACTOR = 0.7f; // Scale factor for captured pieces
 
-    private List<Piece> capturedByWhite = new ArrayList<>();
-    private List<Piece> capturedByBlack = new ArrayList<>();
+    // Board whose capture counters are shown, and which side's captures this view lists
+    private Chessboard board;
+    private boolean showsCapturesByWhite;
     private int pieceSize;
+    private SpriteCache sprites;
+    private final Runnable onSpriteLoaded = this::invalidate;
     private Paint backgroundPaint;
+    private Paint dividerPaint;
     private boolean isVertical = true; // Whether the view is oriented vertically
 
-    // Piece values for sorting (standard chess piece values)
-    private static final int PAWN_VALUE = 1;
-    private static final int KNIGHT_VALUE = 3;
-    private static final int BISHOP_VALUE = 3;
-    private static final int ROOK_VALUE = 5;
-    private static final int QUEEN_VALUE = 9;
-    private static final int KING_VALUE = 0; // Kings shouldn't be captured, but included for completeness
+    // Piece types in the order they are listed, most valuable first
+    private static final int[] LISTED_TYPES = {
+            PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT, PieceType.PAWN
+    };
 
     public CapturedPiecesView(Context context) {
         super(context);
@@ -51,8 +48,13 @@ public class CapturedPiecesView extends View {
     }
 
     private void init() {
+        sprites = SpriteCache.get(getContext());
+
         backgroundPaint = new Paint();
         backgroundPaint.setColor(Color.parseColor("#DDDDDD")); // Light gray background
+
+        dividerPaint = new Paint();
+        dividerPaint.setColor(Color.GRAY);
     }
 
     /**
@@ -74,57 +76,20 @@ public class CapturedPiecesView extends View {
     }
 
     /**
-     * Add a captured piece to the appropriate list
-     * @param piece The captured piece
-     * @param capturedByWhite Whether it was captured by white (true) or black (false)
+     * Show the captures made by one side on a board, read from the board's counters
+     * @param board The board keeping the capture counts
+     * @param capturesByWhite Whether to list the pieces white captured (true) or black captured (false)
      */
-    public void addCapturedPiece(Piece piece, boolean capturedByWhite) {
-        if (capturedByWhite) {
-            this.capturedByWhite.add(piece);
-        } else {
-            this.capturedByBlack.add(piece);
-        }
-
-        // Sort pieces by value (highest value first)
-        sortPieces();
-
-        // Force redraw
+    public void setBoard(Chessboard board, boolean capturesByWhite) {
+        this.board = board;
+        this.showsCapturesByWhite = capturesByWhite;
         invalidate();
     }
 
     /**
-     * Sort the captured pieces lists by piece value
-     */
-    private void sortPieces() {
-        Comparator<Piece> valueComparator = (p1, p2) -> {
-            return getPieceValue(p2) - getPieceValue(p1);
-        };
-
-        Collections.sort(capturedByWhite, valueComparator);
-        Collections.sort(capturedByBlack, valueComparator);
-    }
-
-    /**
-     * Get the standard chess value of a piece
-     */
-    private int getPieceValue(Piece piece) {
-        switch (piece.name) {
-            case "Queen": return QUEEN_VALUE;
-            case "Rook": return ROOK_VALUE;
-            case "Bishop": return BISHOP_VALUE;
-            case "Knight": return KNIGHT_VALUE;
-            case "Pawn": return PAWN_VALUE;
-            case "King": return KING_VALUE;
-            default: return 0;
-        }
-    }
-
-    /**
-     * Clear all captured pieces
+     * Redraw after the board's captures changed or were reset
      */
     public void resetCapturedPieces() {
-        capturedByWhite.clear();
-        capturedByBlack.clear();
         invalidate();
     }
 
@@ -154,15 +119,13 @@ public class CapturedPiecesView extends View {
         int piecesPerRow = Math.max(1, width / (pieceSize + PIECE_SPACING));
 
         // Draw pieces captured by white (black pieces) in the top half
-        drawPiecesGrid(canvas, capturedByBlack, 0, 0, width, halfHeight, piecesPerRow);
+        drawPiecesGrid(canvas, false, 0, 0, width, halfHeight, piecesPerRow);
 
         // Draw a divider line
-        Paint dividerPaint = new Paint();
-        dividerPaint.setColor(Color.GRAY);
         canvas.drawLine(0, halfHeight, width, halfHeight, dividerPaint);
 
         // Draw pieces captured by black (white pieces) in the bottom half
-        drawPiecesGrid(canvas, capturedByWhite, 0, halfHeight, width, height, piecesPerRow);
+        drawPiecesGrid(canvas, true, 0, halfHeight, width, height, piecesPerRow);
     }
 
     /**
@@ -177,59 +140,64 @@ public class CapturedPiecesView extends View {
         int piecesPerCol = Math.max(1, height / (pieceSize + PIECE_SPACING));
 
         // Draw pieces captured by white (black pieces) on the left half
-        drawPiecesGrid(canvas, capturedByBlack, 0, 0, halfWidth, height, piecesPerCol);
+        drawPiecesGrid(canvas, false, 0, 0, halfWidth, height, piecesPerCol);
 
         // Draw a divider line
-        Paint dividerPaint = new Paint();
-        dividerPaint.setColor(Color.GRAY);
         canvas.drawLine(halfWidth, 0, halfWidth, height, dividerPaint);
 
         // Draw pieces captured by black (white pieces) on the right half
-        drawPiecesGrid(canvas, capturedByWhite, halfWidth, 0, width, height, piecesPerCol);
+        drawPiecesGrid(canvas, true, halfWidth, 0, width, height, piecesPerCol);
     }
 
     /**
-     * Draw pieces in a grid layout
+     * Draw the pieces one side captured in a grid layout, most valuable first
      */
-    private void drawPiecesGrid(Canvas canvas, List<Piece> pieces, int left, int top, int right, int bottom, int itemsPerRow) {
+    private void drawPiecesGrid(Canvas canvas, boolean capturesByWhite, int left, int top, int right, int bottom, int itemsPerRow) {
+        // Each view lists one side's captures and leaves the other half empty
+        if (board == null || capturesByWhite != showsCapturesByWhite) {
+            return;
+        }
+        boolean pieceIsWhite = !capturesByWhite;
+
         int x = left + PIECE_SPACING;
         int y = top + PIECE_SPACING;
         int count = 0;
 
-        for (Piece piece : pieces) {
-            // Load sprite if not already loaded
-            if (piece.sprite == null && getContext() != null) {
-                piece.loadSprite(getContext(), pieceSize);
-            }
+        for (int type : LISTED_TYPES) {
+            int captured = board.getCapturedCount(type, pieceIsWhite);
+            for (int i = 0; i < captured; i++) {
+                // Calculate position
+                if (isVertical) {
+                    // For vertical layout, we fill rows first
+                    if (count > 0 && count % itemsPerRow == 0) {
+                        x = left + PIECE_SPACING;
+                        y += pieceSize + PIECE_SPACING;
+                    }
+                } else {
+                    // For horizontal layout, we fill columns first
+                    if (count > 0 && count % itemsPerRow == 0) {
+                        y = top + PIECE_SPACING;
+                        x += pieceSize + PIECE_SPACING;
+                    }
+                }
 
-            // Calculate position
-            if (isVertical) {
-                // For vertical layout, we fill rows first
-                if (count > 0 && count % itemsPerRow == 0) {
-                    x = left + PIECE_SPACING;
-                    y += pieceSize + PIECE_SPACING;
+                // Draw the piece from the shared cache, or a stand-in while its image decodes
+                Bitmap sprite = sprites.get(pieceIsWhite, type, pieceSize, onSpriteLoaded);
+                if (sprite != null) {
+                    canvas.drawBitmap(sprite, x, y, null);
+                } else {
+                    sprites.drawPlaceholder(canvas, pieceIsWhite, x, y, pieceSize);
                 }
-            } else {
-                // For horizontal layout, we fill columns first
-                if (count > 0 && count % itemsPerRow == 0) {
-                    y = top + PIECE_SPACING;
+
+                // Update position for next piece
+                if (isVertical) {
                     x += pieceSize + PIECE_SPACING;
+                } else {
+                    y += pieceSize + PIECE_SPACING;
                 }
-            }
 
-            // Draw the piece
-            if (piece.sprite != null) {
-                canvas.drawBitmap(piece.sprite, x, y, null);
+                count++;
             }
-
-            // Update position for next piece
-            if (isVertical) {
-                x += pieceSize + PIECE_SPACING;
-            } else {
-                y += pieceSize + PIECE_SPACING;
-            }
-
-            count++;
         }
     }
-}
\ No newline at end of file
+}
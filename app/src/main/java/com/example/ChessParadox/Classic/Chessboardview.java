@@ -1,6 +1,7 @@
 package com.example.ChessParadox.Classic;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -9,29 +10,52 @@ import android.view.MotionEvent;
 import android.view.View;
 import android.widget.Toast;
 
-import com.example.ChessParadox.Pieces.*;
-
-import java.util.ArrayList;
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.MoveGenerator;
+import com.example.ChessParadox.Engine.PieceType;
+import com.example.ChessParadox.Pieces.Piece;
 
 /**
  * Custom view that renders the chess board and handles user interactions
  */
-public class Chessboardview extends View {
+public class Chessboardview extends View implements Chessboard.BoardListener {
     private static final String TAG = "ChessboardView";
 
     // Board properties
     public int tileSize;
-    protected ArrayList<Piece> pieceList = new ArrayList<>();
+
+    // Piece images shared by every view, and the redraw to run when one finishes decoding
+    protected SpriteCache sprites;
+    private final Runnable onSpriteLoaded = this::invalidate;
+
+    // Views listing the pieces captured by each side
+    private CapturedPiecesView capturedPiecesViewTop;
+    private CapturedPiecesView capturedPiecesViewBottom;
 
     // Indicator properties
     protected int indicatorSize; // Size of the margin for rank/file indicators
     protected Paint indicatorPaint; // Paint for drawing file and rank indicators
 
+    // Squares and indicators rendered once per size or colour change, then copied onto every frame
+    private Bitmap boardLayer;
+
     // Game state
     protected boolean isWhiteToMove = true;
     protected boolean isGameOver = false;
     protected String gameResult = "";
 
+    // Evaluates check and game over off the main thread after each move
+    protected final GameStatusWorker statusWorker = new GameStatusWorker();
+
+    // Opponent playing one colour in single-player games, null when two people share the device
+    private ComputerPlayer computerPlayer;
+
+    // Piece the computer's move promotes to while that move is played
+    private int computerPromotion = PieceType.NONE;
+
+    // Set while the player picks the piece to promote to; their move is finished once they have
+    private boolean awaitingPromotion;
+
     // UI properties
     protected Paint lightTilePaint;
     protected Paint darkTilePaint;
@@ -42,6 +66,7 @@ public class Chessboardview extends View {
 
     // Drag and drop
     protected float touchX, touchY;
+    protected float dragX, dragY; // Top-left corner of the dragged piece
     protected boolean draggingPiece = false;
 
     // Game logic
@@ -49,6 +74,11 @@ public class Chessboardview extends View {
     public Piece selectedPiece;
     public boolean pieceSelected = false;  // Track if a piece is selected for click-and-move
 
+    // Legal destinations of the selected piece as square bits, with the selection and position they belong to
+    private long selectedTargets;
+    private Piece targetsPiece;
+    private long targetsHash;
+
     public Chessboardview(Context context) {
         super(context);
         initializeBoard();
@@ -96,7 +126,7 @@ public class Chessboardview extends View {
 
         // Initialize indicator paint
         indicatorPaint = new Paint();
-        indicatorPaint.setColor(Color.BLACK);
+        indicatorPaint.setColor(Color.WHITE);
         indicatorPaint.setTextAlign(Paint.Align.CENTER);
         indicatorPaint.setTextSize(30); // Will be adjusted in onSizeChanged
 
@@ -104,8 +134,11 @@ public class Chessboardview extends View {
         tileSize = 100;
         indicatorSize = tileSize / 4; // Default indicator size
 
+        sprites = SpriteCache.get(getContext());
+
         // Initialize the chess board
-        chessBoard = new Chessboard(this);
+        chessBoard = createChessboard();
+        chessBoard.setBoardListener(this);
 
         // Set up the board
         setupBoard();
@@ -114,6 +147,164 @@ public class Chessboardview extends View {
         chessBoard.initCheckScanner();
     }
 
+    /**
+     * Create the rules board used by this view, variants override this to supply their own
+     */
+    protected Chessboard createChessboard() {
+        return new Chessboard();
+    }
+
+    /**
+     * Set the views that show captured pieces
+     */
+    public void setCapturedPiecesViews(CapturedPiecesView top, CapturedPiecesView bottom) {
+        this.capturedPiecesViewTop = top;
+        this.capturedPiecesViewBottom = bottom;
+
+        // Set the piece size based on the board's tile size; the top view lists black's captures
+        if (top != null) {
+            top.setPieceSize(tileSize);
+            top.setBoard(chessBoard, false);
+        }
+        if (bottom != null) {
+            bottom.setPieceSize(tileSize);
+            bottom.setBoard(chessBoard, true);
+        }
+    }
+
+    @Override
+    public void onPieceCaptured(Piece piece, boolean capturedByWhite) {
+        // The board has already counted the capture, the list only needs redrawing
+        CapturedPiecesView view = capturedByWhite ? capturedPiecesViewBottom : capturedPiecesViewTop;
+        if (view != null) {
+            view.invalidate();
+        }
+    }
+
+    @Override
+    public void onPromotionPending(Piece pawn) {
+        // The computer already chose its piece as part of the move
+        if (computerPromotion != PieceType.NONE) {
+            chessBoard.promotePawn(pawn, computerPromotion);
+            return;
+        }
+
+        if (getContext() == null) {
+            chessBoard.promotePawn(pawn, PieceType.QUEEN);
+            return;
+        }
+
+        // Let the player choose the new piece, the move only counts as done once they have
+        awaitingPromotion = true;
+        PawnPromotionDialog dialog = new PawnPromotionDialog(
+                getContext(),
+                pawn,
+                tileSize,
+                pieceType -> {
+                    chessBoard.promotePawn(pawn, pieceType);
+                    awaitingPromotion = false;
+
+                    // The new piece may change check and game over; the computer replies once that is known
+                    checkGameStatus();
+                }
+        );
+        dialog.show();
+    }
+
+    /**
+     * Let the computer play one colour, or pass null to go back to two players
+     */
+    public void setComputerPlayer(ComputerPlayer player) {
+        if (computerPlayer != null && computerPlayer != player) {
+            computerPlayer.release();
+        }
+        computerPlayer = player;
+        requestComputerMove();
+    }
+
+    /**
+     * Check if the side to move is played by the computer
+     */
+    protected boolean isComputerTurn() {
+        return computerPlayer != null && isWhiteToMove == computerPlayer.playsWhite;
+    }
+
+    /**
+     * Start the computer thinking if it is its turn; its move is played once found
+     */
+    protected void requestComputerMove() {
+        if (isComputerTurn() && !isGameOver && !awaitingPromotion) {
+            computerPlayer.requestMove(chessBoard, this::playComputerMove);
+        }
+    }
+
+    /**
+     * Play the move the computer chose, as if a player had dragged it
+     */
+    private void playComputerMove(int move) {
+        if (isGameOver || !isComputerTurn()) {
+            return;
+        }
+
+        computerPromotion = MoveGenerator.promotion(move);
+        chessBoard.makeMove(Move.fromEncoded(chessBoard, move));
+        computerPromotion = PieceType.NONE;
+
+        isWhiteToMove = !isWhiteToMove;
+        checkGameStatus();
+    }
+
+    @Override
+    public void onSquaresChanged(long squares) {
+        invalidateSquares(squares);
+    }
+
+    @Override
+    public void onBoardChanged() {
+        invalidate();
+    }
+
+    /**
+     * Redraw only the given tiles (as square bits)
+     */
+    protected void invalidateSquares(long squares) {
+        while (squares != 0L) {
+            int square = Long.numberOfTrailingZeros(squares);
+            squares &= squares - 1;
+
+            int left = indicatorSize + (square % 8) * tileSize;
+            int top = indicatorSize + (square / 8) * tileSize;
+            invalidate(left, top, left + tileSize, top + tileSize);
+        }
+    }
+
+    /**
+     * Redraw the tiles showing the selection: the selected piece's tile and its highlighted targets
+     */
+    protected void invalidateSelection() {
+        if (selectedPiece != null) {
+            invalidateSquares(getSelectedTargets() | BoardState.bit(BoardState.square(selectedPiece.col, selectedPiece.row)));
+        }
+    }
+
+    /**
+     * Redraw both kings' tiles, where the check highlight may have appeared or gone
+     */
+    protected void invalidateKings() {
+        int white = chessBoard.position.kingSquare(true);
+        int black = chessBoard.position.kingSquare(false);
+        invalidateSquares((white < 0 ? 0L : BoardState.bit(white)) | (black < 0 ? 0L : BoardState.bit(black)));
+    }
+
+    /**
+     * Redraw the area covered by the dragged piece at its current position
+     */
+    private void invalidateDraggedPiece() {
+        int left = (int) Math.floor(dragX);
+        int top = (int) Math.floor(dragY);
+        invalidate(left, top, left + tileSize + 1, top + tileSize + 1);
+    }
+
     @Override
     protected void onSizeChanged(int w, int h, int oldw, int oldh) {
         super.onSizeChanged(w, h, oldw, oldh);
@@ -128,15 +319,8 @@ public class Chessboardview extends View {
         // Update the indicator text size based on the board size
         indicatorPaint.setTextSize(indicatorSize * 0.7f);
 
-        // Update the chessboard tile size
-        chessBoard.tileSize = tileSize;
-
-        // Update all pieces with new positions and load sprites
-        for (Piece piece : pieceList) {
-            piece.xPos = indicatorSize + piece.col * tileSize;
-            piece.yPos = indicatorSize + piece.row * tileSize;
-            piece.loadSprite(getContext(), tileSize);
-        }
+        // The static board is rendered again at the new size
+        rebuildBoardLayer();
 
         // Force redraw with new sizes
         invalidate();
@@ -146,44 +330,19 @@ public class Chessboardview extends View {
      * Set up the initial chess board with all pieces
      */
     public void setupBoard() {
-        pieceList.clear();
-
-        // Black pieces (top of the board)
-        addPiece(new Rook(chessBoard, 0, 0, false));
-        addPiece(new Knight(chessBoard, 1, 0, false));
-        addPiece(new Bishop(chessBoard, 2, 0, false));
-        addPiece(new Queen(chessBoard, 3, 0, false));
-        addPiece(new King(chessBoard, 4, 0, false));
-        addPiece(new Bishop(chessBoard, 5, 0, false));
-        addPiece(new Knight(chessBoard, 6, 0, false));
-        addPiece(new Rook(chessBoard, 7, 0, false));
-
-        for (int col = 0; col < 8; col++) {
-            addPiece(new Pawn(chessBoard, col, 1, false));
+        // Put the pieces in their starting position, dropping any status or move still being worked out
+        statusWorker.cancel();
+        if (computerPlayer != null) {
+            computerPlayer.newGame();
         }
+        chessBoard.reset();
 
-        // White pieces (bottom of the board)
-        addPiece(new Rook(chessBoard, 0, 7, true));
-        addPiece(new Knight(chessBoard, 1, 7, true));
-        addPiece(new Bishop(chessBoard, 2, 7, true));
-        addPiece(new Queen(chessBoard, 3, 7, true));
-        addPiece(new King(chessBoard, 4, 7, true));
-        addPiece(new Bishop(chessBoard, 5, 7, true));
-        addPiece(new Knight(chessBoard, 6, 7, true));
-        addPiece(new Rook(chessBoard, 7, 7, true));
-
-        for (int col = 0; col < 8; col++) {
-            addPiece(new Pawn(chessBoard, col, 6, true));
+        // The board cleared its capture counts, the lists showing them are redrawn empty
+        if (capturedPiecesViewTop != null) {
+            capturedPiecesViewTop.resetCapturedPieces();
         }
-
-        // Update the chess board's piece list
-        chessBoard.pieceList = pieceList;
-
-        // Initialize piece positions and load sprites
-        for (Piece piece : pieceList) {
-            piece.xPos = indicatorSize + piece.col * tileSize;
-            piece.yPos = indicatorSize + piece.row * tileSize;
-            piece.loadSprite(getContext(), tileSize);
+        if (capturedPiecesViewBottom != null) {
+            capturedPiecesViewBottom.resetCapturedPieces();
         }
 
         // Reset game state
@@ -192,30 +351,73 @@ public class Chessboardview extends View {
         gameResult = "";
         selectedPiece = null;
         pieceSelected = false;
-    }
+        awaitingPromotion = false;
 
-    private void addPiece(Piece piece) {
-        pieceList.add(piece);
+        // The computer opens the game when it plays white
+        requestComputerMove();
     }
 
     /**
      * Check if a king is in check
      */
     private boolean isKingInCheck(boolean isWhiteKing) {
-        Piece king = chessBoard.findKing(isWhiteKing);
-        if (king != null) {
-            Move dummyMove = new Move(chessBoard, king, king.col, king.row);
-            return chessBoard.getCheckScanner().isKingInCheck(dummyMove);
+        // Answered from the scanner's cached attack maps, so redraws of the same position do no check work
+        return chessBoard.getCheckScanner().isKingInCheck(isWhiteKing);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        statusWorker.cancel();
+        if (computerPlayer != null) {
+            computerPlayer.release();
+        }
+
+        // Free the board layer while off screen, it is rendered again on the next draw
+        releaseBoardLayer();
+    }
+
+    /**
+     * Change the tile colours, for example on a theme change
+     */
+    public void setBoardColors(int lightColor, int darkColor) {
+        lightTilePaint.setColor(lightColor);
+        darkTilePaint.setColor(darkColor);
+        rebuildBoardLayer();
+        invalidate();
+    }
+
+    /**
+     * Render the squares and rank/file indicators into the cached board layer
+     */
+    private void rebuildBoardLayer() {
+        releaseBoardLayer();
+        if (tileSize <= 0) {
+            return;
+        }
+        int size = 2 * indicatorSize + 8 * tileSize;
+        boardLayer = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+        drawBoardWithIndicators(new Canvas(boardLayer));
+    }
+
+    private void releaseBoardLayer() {
+        if (boardLayer != null) {
+            boardLayer.recycle();
+            boardLayer = null;
         }
-        return false;
     }
 
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
 
-        // Draw the chess board with indicators
-        drawBoardWithIndicators(canvas);
+        // Draw the chess board with indicators from the cached layer
+        if (boardLayer == null) {
+            rebuildBoardLayer();
+        }
+        if (boardLayer != null) {
+            canvas.drawBitmap(boardLayer, 0, 0, null);
+        }
 
         // Highlight kings in check
         highlightKingsInCheck(canvas);
@@ -235,25 +437,32 @@ public class Chessboardview extends View {
         }
 
         // Draw all chess pieces except the selected one being dragged
-        for (Piece piece : pieceList) {
+        for (Piece piece : chessBoard.pieceList) {
             if (piece != selectedPiece || !draggingPiece) {
-                piece.draw(canvas);
+                drawPiece(canvas, piece, indicatorSize + piece.col * tileSize, indicatorSize + piece.row * tileSize);
             }
         }
 
         // Draw the selected piece on top if being dragged
         if (selectedPiece != null && draggingPiece) {
-            selectedPiece.draw(canvas);
+            drawPiece(canvas, selectedPiece, dragX, dragY);
         }
 
         // Display game over message if the game has ended
         if (isGameOver) {
             drawGameOverMessage(canvas);
         }
+    }
 
-        // Continue animation if dragging
-        if (draggingPiece) {
-            invalidate();
+    /**
+     * Draw the sprite of a piece with its top-left corner at the given position
+     */
+    protected void drawPiece(Canvas canvas, Piece piece, float x, float y) {
+        Bitmap sprite = sprites.get(piece.isWhite, piece.type, tileSize, onSpriteLoaded);
+        if (sprite != null) {
+            canvas.drawBitmap(sprite, x, y, null);
+        } else {
+            sprites.drawPlaceholder(canvas, piece.isWhite, x, y, tileSize);
         }
     }
 
@@ -261,33 +470,24 @@ public class Chessboardview extends View {
      * Highlight kings that are in check
      */
     private void highlightKingsInCheck(Canvas canvas) {
-        // Check if white king is in check
-        if (isKingInCheck(true)) {
-            Piece whiteKing = chessBoard.findKing(true);
-            if (whiteKing != null) {
-                float left = indicatorSize + whiteKing.col * tileSize;
-                float top = indicatorSize + whiteKing.row * tileSize;
-                float right = left + tileSize;
-                float bottom = top + tileSize;
-                canvas.drawRect(left, top, right, bottom, checkHighlightPaint);
-            }
-        }
+        highlightKingInCheck(canvas, true);
+        highlightKingInCheck(canvas, false);
+    }
 
-        // Check if black king is in check
-        if (isKingInCheck(false)) {
-            Piece blackKing = chessBoard.findKing(false);
-            if (blackKing != null) {
-                float left = indicatorSize + blackKing.col * tileSize;
-                float top = indicatorSize + blackKing.row * tileSize;
-                float right = left + tileSize;
-                float bottom = top + tileSize;
-                canvas.drawRect(left, top, right, bottom, checkHighlightPaint);
-            }
+    private void highlightKingInCheck(Canvas canvas, boolean isWhiteKing) {
+        int square = chessBoard.position.kingSquare(isWhiteKing);
+        if (square < 0 || !isKingInCheck(isWhiteKing)) {
+            return;
         }
+        float left = indicatorSize + (square % 8) * tileSize;
+        float top = indicatorSize + (square / 8) * tileSize;
+        float right = left + tileSize;
+        float bottom = top + tileSize;
+        canvas.drawRect(left, top, right, bottom, checkHighlightPaint);
     }
 
     /**
-     * Draw the chess board with rank and file indicators
+     * Draw the chess board with rank and file indicators, only when the board layer is rebuilt
      */
     private void drawBoardWithIndicators(Canvas canvas) {
         // Draw the board squares
@@ -307,9 +507,6 @@ public class Chessboardview extends View {
             }
         }
 
-        // Set indicator paint color to white
-        indicatorPaint.setColor(Color.WHITE);
-
         // Draw rank indicators (numbers 1-8) only on the left side
         for (int row = 0; row < 8; row++) {
             String rank = String.valueOf(8 - row); // Chess ranks go from 8 (top) to 1 (bottom)
@@ -331,21 +528,44 @@ public class Chessboardview extends View {
         }
     }
 
+    /**
+     * Get the legal destinations of the selected piece, worked out again only when
+     * the selection or the position has changed
+     */
+    protected long getSelectedTargets() {
+        if (selectedPiece == null) {
+            return 0L;
+        }
+        long hash = chessBoard.getPositionHash();
+        if (selectedPiece != targetsPiece || hash != targetsHash) {
+            selectedTargets = chessBoard.getLegalTargets(selectedPiece);
+            targetsPiece = selectedPiece;
+            targetsHash = hash;
+        }
+        return selectedTargets;
+    }
+
+    /**
+     * Check if the selected piece can legally move to a tile
+     */
+    protected boolean isSelectedTarget(int col, int row) {
+        return (getSelectedTargets() & BoardState.bit(BoardState.square(col, row))) != 0L;
+    }
+
     /**
      * Highlight squares for valid moves of the selected piece
      */
     private void highlightValidMoves(Canvas canvas) {
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                Move move = new Move(chessBoard, selectedPiece, col, row);
-                if (chessBoard.isValidMove(move)) {
-                    float left = indicatorSize + col * tileSize;
-                    float top = indicatorSize + row * tileSize;
-                    float right = left + tileSize;
-                    float bottom = top + tileSize;
-                    canvas.drawRect(left, top, right, bottom, highlightPaint);
-                }
-            }
+        long targets = getSelectedTargets();
+        while (targets != 0L) {
+            int tile = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+
+            float left = indicatorSize + (tile % 8) * tileSize;
+            float top = indicatorSize + (tile / 8) * tileSize;
+            float right = left + tileSize;
+            float bottom = top + tileSize;
+            canvas.drawRect(left, top, right, bottom, highlightPaint);
         }
     }
 
@@ -388,6 +608,11 @@ public class Chessboardview extends View {
             return true;
         }
 
+        // The pieces are the computer's while it is thinking
+        if (isComputerTurn()) {
+            return true;
+        }
+
         // Detect if this is a possible drag gesture or just a click
         if (action == MotionEvent.ACTION_DOWN) {
             touchX = event.getX();
@@ -401,10 +626,12 @@ public class Chessboardview extends View {
             if (dx > tileSize / 10 || dy > tileSize / 10) {
                 // User is dragging, so handle drag-and-drop
                 if (selectedPiece != null && !draggingPiece && pieceSelected) {
+                    // The piece leaves its tile, which loses its selection highlight
+                    invalidateSelection();
                     draggingPiece = true;
-                    selectedPiece.xPos = (int)(event.getX() - tileSize / 2);
-                    selectedPiece.yPos = (int)(event.getY() - tileSize / 2);
-                    invalidate();
+                    dragX = event.getX() - tileSize / 2;
+                    dragY = event.getY() - tileSize / 2;
+                    invalidateDraggedPiece();
                     return true;
                 }
 
@@ -415,25 +642,28 @@ public class Chessboardview extends View {
                         selectedPiece = piece;
                         pieceSelected = true;
                         draggingPiece = true;
-                        selectedPiece.xPos = (int)(event.getX() - tileSize / 2);
-                        selectedPiece.yPos = (int)(event.getY() - tileSize / 2);
-                        invalidate();
+                        dragX = event.getX() - tileSize / 2;
+                        dragY = event.getY() - tileSize / 2;
+                        invalidateSelection();
+                        invalidateDraggedPiece();
                         return true;
                     }
                 }
             }
 
             if (draggingPiece) {
-                // Continue dragging
-                selectedPiece.xPos = (int)(event.getX() - tileSize / 2);
-                selectedPiece.yPos = (int)(event.getY() - tileSize / 2);
-                invalidate();
+                // Continue dragging, repainting where the piece was and where it is now
+                invalidateDraggedPiece();
+                dragX = event.getX() - tileSize / 2;
+                dragY = event.getY() - tileSize / 2;
+                invalidateDraggedPiece();
                 return true;
             }
         } else if (action == MotionEvent.ACTION_UP) {
             // If we were dragging, handle the drop
             if (draggingPiece) {
                 draggingPiece = false;
+                invalidateDraggedPiece();
                 if (selectedPiece != null) {
                     handleMove(col, row);
                 }
@@ -467,7 +697,7 @@ public class Chessboardview extends View {
         if (!pieceSelected && clickedPiece != null && clickedPiece.isWhite == isWhiteToMove) {
             selectedPiece = clickedPiece;
             pieceSelected = true;
-            invalidate();
+            invalidateSelection();
             return;
         }
 
@@ -475,8 +705,9 @@ public class Chessboardview extends View {
         if (pieceSelected && selectedPiece != null) {
             // If the user clicked on another of their pieces, switch selection
             if (clickedPiece != null && clickedPiece.isWhite == isWhiteToMove) {
+                invalidateSelection();
                 selectedPiece = clickedPiece;
-                invalidate();
+                invalidateSelection();
                 return;
             }
 
@@ -489,72 +720,61 @@ public class Chessboardview extends View {
      * Attempt to move the selected piece to the specified position
      */
     protected void handleMove(int col, int row) {
-        // Create and validate the move
-        Move move = new Move(chessBoard, selectedPiece, col, row);
-        if (chessBoard.isValidMove(move)) {
-            // Make the move
-            chessBoard.makeMove(move);
+        // The selection highlights go away whatever happens
+        invalidateSelection();
 
-            // Update the visual position of all pieces
-            updatePiecesVisualPosition();
+        // Validate against the targets worked out when the piece was selected
+        if (isSelectedTarget(col, row)) {
+            // Make the move
+            chessBoard.makeMove(new Move(selectedPiece, col, row));
 
             // Switch turns
             isWhiteToMove = !isWhiteToMove;
 
-            // Check for checkmate or stalemate
-            checkGameStatus();
-        } else {
-            // Invalid move, return piece to original position
-            selectedPiece.xPos = indicatorSize + selectedPiece.col * tileSize;
-            selectedPiece.yPos = indicatorSize + selectedPiece.row * tileSize;
+            // Check for checkmate or stalemate; the computer replies once the game is known to go on.
+            // A pawn waiting for its new piece is checked by the promotion dialog's callback instead.
+            if (!awaitingPromotion) {
+                checkGameStatus();
+            }
         }
+        // An invalid move needs no undo, the piece is drawn back on its own tile
 
         // Reset selection
         selectedPiece = null;
         pieceSelected = false;
-        invalidate();
     }
 
     /**
-     * Update the visual position (xPos, yPos) of all pieces based on their logical position (col, row)
+     * Check if the game has ended (checkmate or stalemate). The answer arrives in onGameStatus
+     * once the position has been evaluated in the background.
      */
-    protected void updatePiecesVisualPosition() {
-        for (Piece piece : pieceList) {
-            piece.xPos = indicatorSize + piece.col * tileSize;
-            piece.yPos = indicatorSize + piece.row * tileSize;
-        }
+    private void checkGameStatus() {
+        invalidateKings();
+        statusWorker.submit(chessBoard, isWhiteToMove, this::onGameStatus);
     }
 
     /**
-     * Check if the game has ended (checkmate or stalemate)
+     * Show check and the end of the game for the position evaluated after the latest move
      */
-    private void checkGameStatus() {
-        // Find the king of the current player
-        Piece king = chessBoard.findKing(isWhiteToMove);
-        if (king != null) {
-            // Check if king is in check and show toast notification
-            Move dummyMove = new Move(chessBoard, king, king.col, king.row);
-            if (chessBoard.getCheckScanner().isKingInCheck(dummyMove)) {
-                Toast.makeText(getContext(), (isWhiteToMove ? "White" : "Black") + " king is in check!", Toast.LENGTH_SHORT).show();
-            }
+    private void onGameStatus(boolean isWhiteToMove, boolean isInCheck, GameStatus status) {
+        // Check if king is in check and show toast notification
+        if (isInCheck) {
+            Toast.makeText(getContext(), (isWhiteToMove ? "White" : "Black") + " king is in check!", Toast.LENGTH_SHORT).show();
+        }
 
-            // Check if the game is over
-            if (chessBoard.getCheckScanner().isGameOver(king)) {
-                isGameOver = true;
+        // Check if the game is over by checkmate, stalemate or a draw rule
+        if (status.isOver()) {
+            isGameOver = true;
+            gameResult = status.describe(isWhiteToMove);
 
-                // Check if king is in check (checkmate) or not (stalemate)
-                if (chessBoard.getCheckScanner().isKingInCheck(dummyMove)) {
-                    gameResult = isWhiteToMove ? "Black wins by checkmate!" : "White wins by checkmate!";
-                } else {
-                    gameResult = "Draw by stalemate!";
-                }
+            Toast.makeText(getContext(), gameResult, Toast.LENGTH_LONG).show();
 
-                Toast.makeText(getContext(), gameResult, Toast.LENGTH_LONG).show();
-            }
+            // Redraw the whole board for the game over message
+            invalidate();
+        } else {
+            // Only now is it certain there is something left to play
+            requestComputerMove();
         }
-
-        // Force a redraw to update king highlight if needed
-        invalidate();
     }
 
     public int getTileSize() {
@@ -566,7 +786,7 @@ public class Chessboardview extends View {
      */
     public void resetGame() {
         setupBoard();
-        chessBoard.reset(); // This will reset the captured pieces views
+
         isWhiteToMove = true;
         isGameOver = false;
         gameResult = "";
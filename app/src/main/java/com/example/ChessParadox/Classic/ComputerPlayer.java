@@ -0,0 +1,136 @@
+package com.example.ChessParadox.Classic;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.PowerManager;
+
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.Difficulty;
+import com.example.ChessParadox.Engine.ParallelSearch;
+import com.example.ChessParadox.Engine.Position;
+import com.example.ChessParadox.Engine.TranspositionTable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Computer opponent for one colour. Moves are searched on a worker thread from the board's snapshot,
+ * and the chosen move is posted back to the main thread unless a later request or a cancel made it stale.
+ */
+public class ComputerPlayer {
+
+    /**
+     * Receiver of the chosen move (see MoveGenerator), called on the main thread
+     */
+    public interface Callback {
+        void onMoveChosen(int move);
+    }
+
+    // One worker shared by every game, a phone only ever plays one computer game at a time
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ComputerPlayer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public final boolean playsWhite;
+    public final Difficulty difficulty;
+
+    // Only used on the worker thread, apart from stop(); its table carries over from move to move
+    private final ParallelSearch search;
+    private final PowerManager powerManager;
+
+    // Position searched, set up from the board's snapshot on the worker thread
+    private final BoardState position = new BoardState();
+    private final Handler mainThread = new Handler(Looper.getMainLooper());
+
+    // Bumped by every request and cancel, only touched on the main thread
+    private int generation;
+
+    public ComputerPlayer(Context context, boolean playsWhite, Difficulty difficulty) {
+        this.playsWhite = playsWhite;
+        this.difficulty = difficulty;
+
+        // Size the table after the heap the app gets, and keep it small on low-RAM devices
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        boolean lowRam = activityManager != null && activityManager.isLowRamDevice();
+        int megabytes = TranspositionTable.defaultSizeMb(Runtime.getRuntime().maxMemory(), lowRam);
+        search = new ParallelSearch(new TranspositionTable(megabytes), Runtime.getRuntime().availableProcessors());
+        powerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+    }
+
+    /**
+     * Get how many threads the next search may use. Every core but the one drawing the UI, fewer when
+     * the battery saver is on or the phone runs hot, since extra threads mostly turn into heat.
+     */
+    private int threadCap() {
+        int cap = Runtime.getRuntime().availableProcessors() - 1;
+        if (powerManager == null) {
+            return cap;
+        }
+        if (powerManager.isPowerSaveMode()) {
+            return 1;
+        }
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            int thermalStatus = powerManager.getCurrentThermalStatus();
+            if (thermalStatus >= PowerManager.THERMAL_STATUS_SEVERE) {
+                return 1;
+            }
+            if (thermalStatus >= PowerManager.THERMAL_STATUS_MODERATE) {
+                return Math.min(cap, 2);
+            }
+        }
+        return cap;
+    }
+
+    /**
+     * Start looking for a move in the position on a board
+     */
+    public void requestMove(Chessboard board, Callback callback) {
+        int request = ++generation;
+        // Taken now, so a cancel() before the worker gets to this request still stops it
+        int ticket = search.newTicket();
+        Position snapshot = board.getSnapshot();
+        int threads = ParallelSearch.threadCount(Runtime.getRuntime().availableProcessors(), threadCap());
+
+        EXECUTOR.execute(() -> {
+            position.copyFrom(snapshot);
+            int move = search.findBestMove(ticket, position, difficulty, threads);
+
+            mainThread.post(() -> {
+                if (request == generation && move != 0) {
+                    callback.onMoveChosen(move);
+                }
+            });
+        });
+    }
+
+    /**
+     * Stop the running search and drop every answer still to come, e.g. when the board is reset
+     */
+    public void cancel() {
+        generation++;
+        search.stop();
+    }
+
+    /**
+     * Cancel, and forget the old game's positions before the next request. The table is cleared on the
+     * worker, after the stopped search has let go of it and before any search of the new game.
+     */
+    public void newGame() {
+        cancel();
+        EXECUTOR.execute(() -> search.table().clear());
+    }
+
+    /**
+     * Cancel and end the search's helper threads, once the player is no longer shown. A later request
+     * starts them again.
+     */
+    public void release() {
+        cancel();
+        search.shutdown();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.ChessParadox.Classic;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.MoveList;
+import com.example.ChessParadox.Engine.Position;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Works out check and game over after a move on a background thread, so the moved piece is drawn
+ * straight away. Each request evaluates the board's snapshot of the position when it was made; the answer
+ * is posted back to the main thread unless a later request or a reset has made it stale.
+ */
+public class GameStatusWorker {
+
+    /**
+     * Receiver of an evaluated position, called on the main thread
+     */
+    public interface Callback {
+        void onGameStatus(boolean isWhiteToMove, boolean isInCheck, GameStatus status);
+    }
+
+    // One thread shared by every board, evaluations are short and only the latest one matters
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "GameStatus");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Scratch position and list of the worker thread
+    private static final BoardState POSITION = new BoardState();
+    private static final MoveList SCRATCH = new MoveList();
+
+    private final Handler mainThread = new Handler(Looper.getMainLooper());
+
+    // Bumped by every request and cancel, only touched on the main thread
+    private int generation;
+
+    /**
+     * Evaluate the position on a board for the given side to move
+     */
+    public void submit(Chessboard board, boolean isWhiteToMove, Callback callback) {
+        int request = ++generation;
+        Position snapshot = board.getSnapshot();
+
+        EXECUTOR.execute(() -> {
+            POSITION.copyFrom(snapshot);
+            boolean inCheck = POSITION.isKingAttacked(isWhiteToMove);
+            GameStatus status = POSITION.kingSquare(isWhiteToMove) < 0 ? GameStatus.ONGOING
+                    : CheckScanner.getGameStatus(POSITION, isWhiteToMove, SCRATCH);
+
+            mainThread.post(() -> {
+                if (request == generation) {
+                    callback.onGameStatus(isWhiteToMove, inCheck, status);
+                }
+            });
+        });
+    }
+
+    /**
+     * Drop the answers of every request made so far, e.g. when the board is reset
+     */
+    public void cancel() {
+        generation++;
+    }
+}
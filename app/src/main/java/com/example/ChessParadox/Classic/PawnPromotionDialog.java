@@ -3,7 +3,6 @@ package com.example.ChessParadox.Classic;
 import android.app.Dialog;
 import android.content.Context;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.graphics.Color;
 import android.os.Bundle;
 import android.view.View;
@@ -13,6 +12,7 @@ import android.widget.ImageButton;
 import android.widget.LinearLayout;
 
 import com.example.ChessParadox.R;
+import com.example.ChessParadox.Engine.PieceType;
 import com.example.ChessParadox.Pieces.Piece;
 
 /**
@@ -20,7 +20,7 @@ import com.example.ChessParadox.Pieces.Piece;
  */
 public class PawnPromotionDialog extends Dialog {
     private final Piece pawn;
-    private final Chessboard chessboard;
+    private final int tileSize;
     private final OnPromotionListener listener;
     private final boolean isWhite;
 
@@ -28,10 +28,10 @@ public class PawnPromotionDialog extends Dialog {
         void onPieceSelected(String pieceType);
     }
 
-    public PawnPromotionDialog(Context context, Piece pawn, Chessboard chessboard, OnPromotionListener listener) {
+    public PawnPromotionDialog(Context context, Piece pawn, int tileSize, OnPromotionListener listener) {
         super(context);
         this.pawn = pawn;
-        this.chessboard = chessboard;
+        this.tileSize = tileSize;
         this.listener = listener;
         this.isWhite = pawn.isWhite;
     }
@@ -50,29 +50,19 @@ public class PawnPromotionDialog extends Dialog {
         String[] pieceTypes = {"Queen", "Rook", "Bishop", "Knight"};
 
         // Use a more appropriate button size - not too large
-        int buttonSize = Math.min(chessboard.tileSize, 120); // Limit maximum size
+        int buttonSize = Math.min(tileSize, 120); // Limit maximum size
         Context context = getContext();
+        SpriteCache sprites = SpriteCache.get(context);
 
         for (final String pieceType : pieceTypes) {
             ImageButton pieceBtn = new ImageButton(context);
 
-            // Get the appropriate resource ID for this piece
-            String colorPrefix = isWhite ? "white" : "black";
-            String resourceName = colorPrefix + "_" + pieceType.toLowerCase();
-            int resourceId = context.getResources().getIdentifier(
-                    resourceName, "drawable", context.getPackageName());
-
-            // Load and scale the image to match the tile size
-            Bitmap originalBitmap = BitmapFactory.decodeResource(context.getResources(), resourceId);
-            if (originalBitmap != null) {
-                // Create a properly scaled bitmap that matches our button size
-                Bitmap scaledBitmap = Bitmap.createScaledBitmap(originalBitmap, buttonSize, buttonSize, true);
-                pieceBtn.setImageBitmap(scaledBitmap);
-                // Recycle the original bitmap to free memory
-                originalBitmap.recycle();
-            } else {
-                // Fallback if bitmap loading fails
-                pieceBtn.setImageResource(resourceId);
+            // Use the shared image at the button size, filling the button in once it is decoded
+            int type = PieceType.fromName(pieceType);
+            Bitmap sprite = sprites.get(isWhite, type, buttonSize,
+                    () -> pieceBtn.setImageBitmap(sprites.get(isWhite, type, buttonSize, null)));
+            if (sprite != null) {
+                pieceBtn.setImageBitmap(sprite);
             }
 
             pieceBtn.setScaleType(ImageButton.ScaleType.FIT_CENTER);
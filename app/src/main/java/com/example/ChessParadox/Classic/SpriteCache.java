@@ -0,0 +1,200 @@
+package com.example.ChessParadox.Classic;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.LruCache;
+
+import com.example.ChessParadox.Engine.PieceType;
+import com.example.ChessParadox.R;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Process-wide cache of piece images, keyed by colour, piece type and size, shared by every view.
+ * Images are decoded on a background thread; until one is ready callers draw a placeholder and
+ * get a callback on the main thread once it can be drawn.
+ */
+public final class SpriteCache implements ComponentCallbacks2 {
+    private static final String TAG = "SpriteCache";
+
+    // One image per colour and piece type at each size, keeping a few sizes (board, captured list, dialog)
+    private static final int SPRITES_PER_SIZE = 12;
+    private static final int SIZES_KEPT = 4;
+
+    // Drawables indexed by piece code, i.e. piece type with the black flag
+    private static final int[] DRAWABLES = new int[16];
+
+    static {
+        DRAWABLES[PieceType.code(PieceType.PAWN, true)] = R.drawable.white_pawn;
+        DRAWABLES[PieceType.code(PieceType.KNIGHT, true)] = R.drawable.white_knight;
+        DRAWABLES[PieceType.code(PieceType.BISHOP, true)] = R.drawable.white_bishop;
+        DRAWABLES[PieceType.code(PieceType.ROOK, true)] = R.drawable.white_rook;
+        DRAWABLES[PieceType.code(PieceType.QUEEN, true)] = R.drawable.white_queen;
+        DRAWABLES[PieceType.code(PieceType.KING, true)] = R.drawable.white_king;
+        DRAWABLES[PieceType.code(PieceType.PAWN, false)] = R.drawable.black_pawn;
+        DRAWABLES[PieceType.code(PieceType.KNIGHT, false)] = R.drawable.black_knight;
+        DRAWABLES[PieceType.code(PieceType.BISHOP, false)] = R.drawable.black_bishop;
+        DRAWABLES[PieceType.code(PieceType.ROOK, false)] = R.drawable.black_rook;
+        DRAWABLES[PieceType.code(PieceType.QUEEN, false)] = R.drawable.black_queen;
+        DRAWABLES[PieceType.code(PieceType.KING, false)] = R.drawable.black_king;
+    }
+
+    private static SpriteCache instance;
+
+    private final Resources resources;
+    private final LruCache<Integer, Bitmap> sprites = new LruCache<>(SPRITES_PER_SIZE * SIZES_KEPT);
+    private final ExecutorService decoder = Executors.newSingleThreadExecutor();
+    private final Handler mainThread = new Handler(Looper.getMainLooper());
+
+    // Callbacks waiting for an image that is being decoded, only touched on the main thread
+    private final Map<Integer, List<Runnable>> pending = new HashMap<>();
+
+    // Stand-in drawn while an image is decoded
+    private final Paint whitePlaceholder = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint blackPlaceholder = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    private SpriteCache(Context context) {
+        resources = context.getResources();
+        whitePlaceholder.setColor(Color.parseColor("#99FFFFFF"));
+        blackPlaceholder.setColor(Color.parseColor("#99000000"));
+        context.registerComponentCallbacks(this);
+    }
+
+    /**
+     * Get the cache shared by the whole app
+     */
+    public static synchronized SpriteCache get(Context context) {
+        if (instance == null) {
+            instance = new SpriteCache(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    private static int key(int code, int size) {
+        return size << 4 | code;
+    }
+
+    /**
+     * Get the image of a piece at a size, or null while it is being decoded, in which case
+     * onLoaded runs on the main thread once it is ready
+     */
+    public Bitmap get(boolean isWhite, int type, int size, Runnable onLoaded) {
+        int code = PieceType.code(type, isWhite);
+        if (size <= 0 || type == PieceType.NONE || DRAWABLES[code] == 0) {
+            return null;
+        }
+
+        int key = key(code, size);
+        Bitmap sprite = sprites.get(key);
+        if (sprite != null) {
+            return sprite;
+        }
+
+        // Decode each image once, however many callers ask for it meanwhile
+        List<Runnable> waiting = pending.get(key);
+        if (waiting == null) {
+            waiting = new ArrayList<>();
+            pending.put(key, waiting);
+            decoder.execute(() -> {
+                Bitmap decoded = decode(DRAWABLES[code], size);
+                mainThread.post(() -> finish(key, decoded));
+            });
+        }
+        if (onLoaded != null) {
+            waiting.add(onLoaded);
+        }
+        return null;
+    }
+
+    /**
+     * Store a decoded image and tell everyone who was waiting for it
+     */
+    private void finish(int key, Bitmap sprite) {
+        if (sprite != null) {
+            sprites.put(key, sprite);
+        }
+        List<Runnable> waiting = pending.remove(key);
+        if (sprite != null && waiting != null) {
+            for (Runnable callback : waiting) {
+                callback.run();
+            }
+        }
+    }
+
+    /**
+     * Draw the stand-in for a piece whose image is not decoded yet
+     */
+    public void drawPlaceholder(Canvas canvas, boolean isWhite, float x, float y, int size) {
+        float radius = size * 0.3f;
+        canvas.drawCircle(x + size / 2f, y + size / 2f, radius, isWhite ? whitePlaceholder : blackPlaceholder);
+    }
+
+    /**
+     * Decode a drawable no larger than needed and scale it to the sprite size
+     */
+    private Bitmap decode(int drawable, int size) {
+        try {
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeResource(resources, drawable, options);
+
+            // Skip pixels the scaled image would throw away anyway
+            int sampleSize = 1;
+            while (options.outWidth / (sampleSize * 2) >= size && options.outHeight / (sampleSize * 2) >= size) {
+                sampleSize *= 2;
+            }
+            options.inJustDecodeBounds = false;
+            options.inSampleSize = sampleSize;
+
+            Bitmap original = BitmapFactory.decodeResource(resources, drawable, options);
+            if (original == null) {
+                Log.e(TAG, "Could not decode drawable " + drawable);
+                return null;
+            }
+
+            Bitmap scaled = Bitmap.createScaledBitmap(original, size, size, true);
+            if (scaled != original) {
+                original.recycle();
+            }
+            return scaled;
+        } catch (Exception e) {
+            Log.e(TAG, "Error loading sprite " + drawable, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_BACKGROUND) {
+            // Off screen: everything can be decoded again when the app comes back
+            sprites.evictAll();
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            // Keep roughly the sizes in use right now
+            sprites.trimToSize(SPRITES_PER_SIZE);
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        sprites.evictAll();
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+    }
+}
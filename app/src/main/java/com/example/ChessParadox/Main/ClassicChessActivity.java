@@ -11,6 +11,8 @@ import androidx.appcompat.app.AppCompatActivity;
 
 import com.example.ChessParadox.Classic.CapturedPiecesView;
 import com.example.ChessParadox.Classic.Chessboardview;
+import com.example.ChessParadox.Classic.ComputerPlayer;
+import com.example.ChessParadox.Engine.Difficulty;
 import com.example.ChessParadox.R;
 
 /**
@@ -19,6 +21,9 @@ import com.example.ChessParadox.R;
 public class ClassicChessActivity extends AppCompatActivity {
 
     private static final String TAG = "ChessApp";
+
+    // Intent extra naming the Difficulty of the computer opponent, absent for two players
+    public static final String EXTRA_COMPUTER_LEVEL = "COMPUTER_LEVEL";
     private Chessboardview chessboardview;
     private CapturedPiecesView capturedPiecesViewTop;
     private CapturedPiecesView capturedPiecesViewBottom;
@@ -81,12 +86,18 @@ public class ClassicChessActivity extends AppCompatActivity {
 
             // Connect the captured pieces views to the chessboard
             if (chessboardview.chessBoard != null) {
-                chessboardview.chessBoard.setCapturedPiecesViews(capturedPiecesViewTop, capturedPiecesViewBottom);
+                chessboardview.setCapturedPiecesViews(capturedPiecesViewTop, capturedPiecesViewBottom);
 
                 // Set up game status update listener if this is fog of war mode
                 if ("FOG_OF_WAR".equals(gameMode)) {
                     setupFogOfWarMode();
                 }
+
+                // The player takes white against the computer in single-player games
+                if (getIntent().hasExtra(EXTRA_COMPUTER_LEVEL)) {
+                    Difficulty level = Difficulty.valueOf(getIntent().getStringExtra(EXTRA_COMPUTER_LEVEL));
+                    chessboardview.setComputerPlayer(new ComputerPlayer(this, false, level));
+                }
             } else {
                 Log.w(TAG, "Chess board not initialized yet");
             }
@@ -1,5 +1,6 @@
 package com.example.ChessParadox.Main;
 
+import android.app.AlertDialog;
 import android.app.Dialog;
 import android.content.Intent;
 import android.os.Bundle;
@@ -11,6 +12,7 @@ import android.widget.TextView;
 
 import androidx.appcompat.app.AppCompatActivity;
 
+import com.example.ChessParadox.Engine.Difficulty;
 import com.example.ChessParadox.R;
 
 /**
@@ -34,12 +36,9 @@ public class GameModesActivity extends AppCompatActivity {
         ImageView backButton = findViewById(R.id.backButton);
         backButton.setOnClickListener(v -> onBackPressed());
 
-        // Set up classic chess mode
+        // Set up classic chess mode, against another player or the computer
         Button playClassicButton = findViewById(R.id.playClassicChessButton);
-        playClassicButton.setOnClickListener(v -> {
-            Intent intent = new Intent(GameModesActivity.this, ClassicChessActivity.class);
-            startActivity(intent);
-        });
+        playClassicButton.setOnClickListener(v -> showClassicOpponentDialog());
 
         // Set up two-steps ahead mode
         Button playTwoStepsButton = findViewById(R.id.playTwoStepsButton);
@@ -63,6 +62,25 @@ public class GameModesActivity extends AppCompatActivity {
         setupInfoIcons();
     }
 
+    /**
+     * Ask who to play Classic chess against, then start the game
+     */
+    private void showClassicOpponentDialog() {
+        String[] opponents = {"Two players", "Computer (Easy)", "Computer (Medium)", "Computer (Hard)"};
+        Difficulty[] levels = {null, Difficulty.EASY, Difficulty.MEDIUM, Difficulty.HARD};
+
+        new AlertDialog.Builder(this)
+                .setTitle("Classic Chess")
+                .setItems(opponents, (dialog, which) -> {
+                    Intent intent = new Intent(GameModesActivity.this, ClassicChessActivity.class);
+                    if (levels[which] != null) {
+                        intent.putExtra(ClassicChessActivity.EXTRA_COMPUTER_LEVEL, levels[which].name());
+                    }
+                    startActivity(intent);
+                })
+                .show();
+    }
+
     /**
      * Sets up click listeners for all info icons in the game modes screen
      */
@@ -68,7 +68,7 @@ public class TwoStepChessActivity extends AppCompatActivity {
 
             // Connect the board with the captured pieces views
             if (twostepchessboardview.twostepchessBoard != null) {
-                twostepchessboardview.twostepchessBoard.setCapturedPiecesViews(capturedPiecesViewTop, capturedPiecesViewBottom);
+                twostepchessboardview.setCapturedPiecesViews(capturedPiecesViewTop, capturedPiecesViewBottom);
 
                 // Set up callbacks for move completion to update status
                 setupMoveCallbacks();
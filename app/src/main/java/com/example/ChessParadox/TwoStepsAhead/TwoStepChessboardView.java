@@ -8,8 +8,12 @@ import android.util.AttributeSet;
 import android.view.MotionEvent;
 import android.widget.Toast;
 
+import com.example.ChessParadox.Classic.Chessboard;
 import com.example.ChessParadox.Classic.Chessboardview;
+import com.example.ChessParadox.Classic.GameStatus;
 import com.example.ChessParadox.Classic.Move;
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.StaticExchange;
 import com.example.ChessParadox.Main.TwoStepChessActivity;
 import com.example.ChessParadox.Pieces.Piece;
 
@@ -17,7 +21,7 @@ import com.example.ChessParadox.Pieces.Piece;
  * Custom view for the Two-Steps Ahead chess variant
  * Extends the classic chessboard view with additional turn-based mechanics
  */
-public class TwoStepChessboardView extends Chessboardview {
+public class TwoStepChessboardView extends Chessboardview implements TwoStepChessboard.OnTurnChangeListener {
 
     // Reference to the specific board for this variant
     public TwoStepChessboard twostepchessBoard;
@@ -25,6 +29,20 @@ public class TwoStepChessboardView extends Chessboardview {
     // UI colors for highlighting first-move pieces
     private Paint firstMovePieceHighlight;
 
+    // Outline for pieces of the player to move that the opponent can win in an exchange
+    private Paint hangingPiecePaint;
+
+    // Paints for the turn banner and game over box, sized with the tiles in onSizeChanged
+    private Paint turnTextPaint;
+    private Paint gameOverPaint;
+    private Paint gameOverTextPaint;
+
+    // Tile of the first-move highlight last drawn (as a square bit), so it can be cleared
+    private long firstMoveHighlight;
+
+    // Hanging pieces of the player to move as square bits, worked out once per move
+    private long hangingPieces;
+
     // Game state
     private boolean gameOver = false;
     private String gameOverMessage = "";
@@ -46,21 +64,51 @@ public class TwoStepChessboardView extends Chessboardview {
 
     @Override
     protected void initializeBoard() {
-        // Initialize the two-step chessboard
-        twostepchessBoard = new TwoStepChessboard(this);
-        chessBoard = twostepchessBoard;  // Set the parent's board to our variant
-
         // Initialize color for highlighting the first-moved piece
         firstMovePieceHighlight = new Paint();
         firstMovePieceHighlight.setColor(Color.parseColor("#80FFA500"));  // Orange with transparency
         firstMovePieceHighlight.setAlpha(180);
 
-        // Call parent's initialization if needed
+        hangingPiecePaint = new Paint();
+        hangingPiecePaint.setColor(Color.RED);
+        hangingPiecePaint.setStyle(Paint.Style.STROKE);
+
+        turnTextPaint = new Paint();
+        turnTextPaint.setColor(Color.WHITE);
+        turnTextPaint.setTextAlign(Paint.Align.CENTER);
+
+        gameOverPaint = new Paint();
+        gameOverPaint.setColor(Color.parseColor("#99000000"));  // Semi-transparent black
+
+        gameOverTextPaint = new Paint();
+        gameOverTextPaint.setColor(Color.WHITE);
+        gameOverTextPaint.setTextAlign(Paint.Align.CENTER);
+
+        // Call parent's initialization, which creates the board through createChessboard()
         super.initializeBoard();
     }
 
+    @Override
+    protected Chessboard createChessboard() {
+        // Initialize the two-step chessboard and use it as the parent's board
+        twostepchessBoard = new TwoStepChessboard();
+        twostepchessBoard.setOnTurnChangeListener(this);
+        return twostepchessBoard;
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        // The board layer and tile size come from the parent
+        super.onSizeChanged(w, h, oldw, oldh);
+
+        turnTextPaint.setTextSize(tileSize / 3);
+        gameOverTextPaint.setTextSize(tileSize / 2);
+        hangingPiecePaint.setStrokeWidth(tileSize / 16f);
+    }
+
     @Override
     protected void onDraw(Canvas canvas) {
+        // The parent draws the cached board layer, highlights and pieces
         super.onDraw(canvas);
 
         // Draw additional information for Two-Steps Ahead variant
@@ -75,13 +123,19 @@ public class TwoStepChessboardView extends Chessboardview {
             canvas.drawRect(left, top, right, bottom, firstMovePieceHighlight);
         }
 
+        // Outline the pieces the player to move is about to lose
+        float inset = hangingPiecePaint.getStrokeWidth() / 2;
+        long hanging = hangingPieces;
+        while (hanging != 0L) {
+            int square = Long.numberOfTrailingZeros(hanging);
+            hanging &= hanging - 1;
+            float left = indicatorSize + (square & 7) * tileSize;
+            float top = indicatorSize + (square >>> 3) * tileSize;
+            canvas.drawRect(left + inset, top + inset, left + tileSize - inset, top + tileSize - inset, hangingPiecePaint);
+        }
+
         // Show turn indicator text at the top
         if (!gameOver) {
-            Paint turnTextPaint = new Paint();
-            turnTextPaint.setColor(Color.WHITE);
-            turnTextPaint.setTextSize(tileSize / 3);
-            turnTextPaint.setTextAlign(Paint.Align.CENTER);
-
             String turnText = (twostepchessBoard.isWhiteTurn() ? "White" : "Black") + "'s turn";
             String moveText = " - " + (twostepchessBoard.isFirstMove() ? "First" : "Second") + " move";
 
@@ -93,23 +147,15 @@ public class TwoStepChessboardView extends Chessboardview {
 
         // Draw game over message if game is over
         if (gameOver) {
-            Paint gameOverPaint = new Paint();
-            gameOverPaint.setColor(Color.parseColor("#99000000"));  // Semi-transparent black
-
             float boxHeight = tileSize * 2;
             float boxTop = (getHeight() - boxHeight) / 2;
 
             canvas.drawRect(0, boxTop, getWidth(), boxTop + boxHeight, gameOverPaint);
 
-            Paint textPaint = new Paint();
-            textPaint.setColor(Color.WHITE);
-            textPaint.setTextSize(tileSize / 2);
-            textPaint.setTextAlign(Paint.Align.CENTER);
-
             canvas.drawText(gameOverMessage,
                     getWidth() / 2,
-                    boxTop + boxHeight / 2 + textPaint.getTextSize() / 3,
-                    textPaint);
+                    boxTop + boxHeight / 2 + gameOverTextPaint.getTextSize() / 3,
+                    gameOverTextPaint);
         }
     }
 
@@ -128,14 +174,28 @@ public class TwoStepChessboardView extends Chessboardview {
     /**
      * Update the turn state in the UI and parent activity
      */
-    public void updateTurnState(boolean isWhiteTurn, boolean isFirstMove) {
+    @Override
+    public void onTurnChanged(boolean isWhiteTurn, boolean isFirstMove) {
+        // Keep piece selection in line with the player whose turn it is
+        isWhiteToMove = isWhiteTurn;
+
         // Update the parent activity if possible
         if (getContext() instanceof TwoStepChessActivity) {
             ((TwoStepChessActivity) getContext()).updateGameStatus(isWhiteTurn, !isFirstMove);
         }
 
-        // Redraw the board
-        invalidate();
+        // Redraw the first-move highlight where it was and where it is now, and the turn banner
+        invalidateSquares(firstMoveHighlight);
+        Piece firstMovePiece = twostepchessBoard.getFirstMovePiece();
+        firstMoveHighlight = firstMovePiece != null && !isFirstMove
+                ? BoardState.bit(BoardState.square(firstMovePiece.col, firstMovePiece.row)) : 0L;
+        invalidateSquares(firstMoveHighlight);
+        invalidate(0, 0, getWidth(), indicatorSize);
+
+        // Static exchange evaluation reads the attack sets only, cheap enough to run after every move
+        invalidateSquares(hangingPieces);
+        hangingPieces = StaticExchange.hangingPieces(twostepchessBoard.position, isWhiteTurn);
+        invalidateSquares(hangingPieces);
     }
 
     /**
@@ -147,25 +207,20 @@ public class TwoStepChessboardView extends Chessboardview {
             return;
         }
 
+        // The selection highlights go away whatever happens
+        invalidateSelection();
+
         // Check if this is a valid move
         if (selectedPiece.isWhite == twostepchessBoard.isWhiteTurn()) {
-            Move move = new Move(twostepchessBoard, selectedPiece, col, row);
-
-            if (twostepchessBoard.isValidMove(move)) {
+            // The board's targets already honour turn order and the no-repeat rule
+            if (isSelectedTarget(col, row)) {
                 // Make the move
-                twostepchessBoard.makeMove(move);
-
-                // Update visual positions of all pieces
-                updatePiecesVisualPosition();
+                twostepchessBoard.makeMove(new Move(selectedPiece, col, row));
 
                 // Check for game over conditions
                 checkGameStatus();
             } else {
-                // Invalid move, return piece to original position
-                selectedPiece.xPos = indicatorSize + selectedPiece.col * tileSize;
-                selectedPiece.yPos = indicatorSize + selectedPiece.row * tileSize;
-
-                // Show a toast explaining why the move is invalid
+                // Invalid move, show a toast explaining why the move is invalid
                 if (twostepchessBoard.isFirstMove() && selectedPiece.isWhite != twostepchessBoard.isWhiteTurn()) {
                     Toast.makeText(getContext(), "It's " + (twostepchessBoard.isWhiteTurn() ? "white" : "black") + "'s turn", Toast.LENGTH_SHORT).show();
                 } else if (!twostepchessBoard.isFirstMove() && selectedPiece == twostepchessBoard.getFirstMovePiece()) {
@@ -175,54 +230,46 @@ public class TwoStepChessboardView extends Chessboardview {
         } else {
             // Wrong player's piece
             Toast.makeText(getContext(), "It's " + (twostepchessBoard.isWhiteTurn() ? "white" : "black") + "'s turn", Toast.LENGTH_SHORT).show();
-
-            // Return piece to original position
-            selectedPiece.xPos = indicatorSize + selectedPiece.col * tileSize;
-            selectedPiece.yPos = indicatorSize + selectedPiece.row * tileSize;
         }
 
         // Reset selection
         selectedPiece = null;
         pieceSelected = false;
-        invalidate();
     }
 
     /**
-     * Check if the game has ended
+     * Check if the game has ended. The answer arrives in onGameStatus once the position has been
+     * evaluated in the background.
      */
     private void checkGameStatus() {
-        // Only check game status after the second move
+        invalidateKings();
+
+        // Only check game status after the second move, for the player about to move
         if (twostepchessBoard.isFirstMove()) {
-            // Find the king of the current player (who just completed their turn)
-            boolean currentPlayerIsWhite = !twostepchessBoard.isWhiteTurn();
-            Piece king = twostepchessBoard.findKing(currentPlayerIsWhite);
-
-            if (king != null) {
-                // Check if the king of the current player is in check
-                Move dummyMove = new Move(twostepchessBoard, king, king.col, king.row);
-                if (twostepchessBoard.getCheckScanner().isKingInCheck(dummyMove)) {
-                    String playerName = currentPlayerIsWhite ? "White" : "Black";
-                    Toast.makeText(getContext(), playerName + " king is in check!", Toast.LENGTH_SHORT).show();
-                }
+            statusWorker.submit(twostepchessBoard, twostepchessBoard.isWhiteTurn(), this::onGameStatus);
+        }
+    }
 
-                // Check for checkmate or stalemate
-                if (twostepchessBoard.getCheckScanner().isGameOver(king)) {
-                    gameOver = true;
+    /**
+     * Show check and the end of the game for the position evaluated after the latest turn
+     */
+    private void onGameStatus(boolean currentPlayerIsWhite, boolean isInCheck, GameStatus status) {
+        // Check if the king of the current player is in check
+        if (isInCheck) {
+            String playerName = currentPlayerIsWhite ? "White" : "Black";
+            Toast.makeText(getContext(), playerName + " king is in check!", Toast.LENGTH_SHORT).show();
+        }
 
-                    // Determine if it's checkmate or stalemate
-                    if (twostepchessBoard.getCheckScanner().isKingInCheck(dummyMove)) {
-                        gameOverMessage = currentPlayerIsWhite ? "Black wins by checkmate!" : "White wins by checkmate!";
-                    } else {
-                        gameOverMessage = "Draw by stalemate!";
-                    }
+        // Check for checkmate, stalemate or a draw rule
+        if (status.isOver()) {
+            gameOver = true;
+            gameOverMessage = status.describe(currentPlayerIsWhite);
 
-                    Toast.makeText(getContext(), gameOverMessage, Toast.LENGTH_LONG).show();
-                }
-            }
-        }
+            Toast.makeText(getContext(), gameOverMessage, Toast.LENGTH_LONG).show();
 
-        // Force redraw
-        invalidate();
+            // Redraw the whole board for the game over message
+            invalidate();
+        }
     }
 
     /**
@@ -232,16 +279,10 @@ public class TwoStepChessboardView extends Chessboardview {
     public void resetGame() {
         super.resetGame();
 
-        // Reset the game state
+        // Reset the game state, the board already reset its turn state in setupBoard
         gameOver = false;
         gameOverMessage = "";
 
-        // Reset the two-step chess state
-        twostepchessBoard.reset();
-
-        // Reset the first move piece
-        twostepchessBoard.resetFirstMovePiece();
-
         // Redraw
         invalidate();
     }
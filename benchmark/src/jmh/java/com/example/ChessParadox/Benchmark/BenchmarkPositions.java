@@ -0,0 +1,50 @@
+package com.example.ChessParadox.Benchmark;
+
+import com.example.ChessParadox.Engine.BoardState;
+
+/**
+ * Corpus of positions the benchmarks run on
+ */
+final class BenchmarkPositions {
+    static final String MIDDLEGAME = "middlegame";
+    static final String ENDGAME = "endgame";
+
+    private static final String[] MIDDLEGAME_FENS = {
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+            "r1bq1rk1/pp2bppp/2n1pn2/3p4/2PP4/2N1PN2/PP3PPP/R2QKB1R w KQ - 0 9",
+            "r2q1rk1/pb1nbppp/1p2pn2/2pp4/3P4/1P1BPN2/PBPN1PPP/R2Q1RK1 w - - 0 10",
+    };
+
+    private static final String[] ENDGAME_FENS = {
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "8/5pk1/6p1/8/3R4/6P1/5PK1/r7 w - - 0 40",
+            "8/8/4kpp1/3p4/3P1PP1/4K3/8/8 w - - 0 45",
+            "8/8/1P2K3/8/2n5/1q6/8/5k2 b - - 0 1",
+            "6k1/5p2/6p1/8/2B5/6P1/5PK1/3b4 b - - 0 50",
+    };
+
+    private BenchmarkPositions() {
+    }
+
+    /**
+     * Get the FEN strings of a game phase
+     */
+    static String[] fens(String phase) {
+        return ENDGAME.equals(phase) ? ENDGAME_FENS : MIDDLEGAME_FENS;
+    }
+
+    /**
+     * Load every position of a game phase
+     */
+    static BoardState[] load(String phase) {
+        String[] fens = fens(phase);
+        BoardState[] states = new BoardState[fens.length];
+        for (int i = 0; i < fens.length; i++) {
+            states[i] = new BoardState();
+            states[i].loadFen(fens[i]);
+        }
+        return states;
+    }
+}
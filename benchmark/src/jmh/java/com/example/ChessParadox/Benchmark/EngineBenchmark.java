@@ -0,0 +1,89 @@
+package com.example.ChessParadox.Benchmark;
+
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.MoveGenerator;
+import com.example.ChessParadox.Engine.MoveList;
+import com.example.ChessParadox.Engine.Perft;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the engine queries behind move validation, check detection and game-over scans.
+ * Each operation runs the query once on every position of the corpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EngineBenchmark {
+    @Param({BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.ENDGAME})
+    public String phase;
+
+    private BoardState[] positions;
+    private final MoveList moves = new MoveList();
+    private final Perft perft = new Perft(3);
+
+    @Setup
+    public void setup() {
+        positions = BenchmarkPositions.load(phase);
+    }
+
+    /**
+     * Legal destinations of every piece of the side to move, as asked for by move validation
+     */
+    @Benchmark
+    public void legalTargets(Blackhole blackhole) {
+        for (BoardState state : positions) {
+            long own = state.colorPieces(state.whiteToMove);
+            while (own != 0L) {
+                int from = Long.numberOfTrailingZeros(own);
+                own &= own - 1;
+                blackhole.consume(MoveGenerator.legalTargets(state, from, moves));
+            }
+        }
+    }
+
+    @Benchmark
+    public void generateLegal(Blackhole blackhole) {
+        for (BoardState state : positions) {
+            MoveGenerator.generateLegal(state, moves);
+            blackhole.consume(moves.size());
+        }
+    }
+
+    @Benchmark
+    public void kingInCheck(Blackhole blackhole) {
+        for (BoardState state : positions) {
+            blackhole.consume(state.isKingAttacked(true));
+            blackhole.consume(state.isKingAttacked(false));
+        }
+    }
+
+    /**
+     * The scan for a legal move that decides checkmate and stalemate
+     */
+    @Benchmark
+    public void gameOver(Blackhole blackhole) {
+        for (BoardState state : positions) {
+            blackhole.consume(MoveGenerator.hasLegalMove(state, state.whiteToMove, moves));
+        }
+    }
+
+    @Benchmark
+    public long perftDepth3() {
+        long nodes = 0;
+        for (BoardState state : positions) {
+            nodes += perft.count(state, 3);
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.ChessParadox.Benchmark;
+
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.Search;
+import com.example.ChessParadox.Engine.TranspositionTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to a fixed depth on the middlegame positions with move ordering on and off (stored move only).
+ * Setup prints the nodes needed for each depth and the effective branching factor, so the saving
+ * shows apart from timing noise; the counts do not change between runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderingBenchmark {
+    private static final int DEPTH = 5;
+    // Far beyond what depth 5 needs, so only the depth ends a search
+    private static final long MAX_MILLIS = 60_000;
+
+    @Param({"true", "false"})
+    public boolean ordered;
+
+    private BoardState[] positions;
+    private Search search;
+
+    @Setup
+    public void setup() {
+        positions = BenchmarkPositions.load(BenchmarkPositions.MIDDLEGAME);
+        search = new Search(new TranspositionTable(16));
+        search.setMoveOrdering(ordered);
+        reportNodesToDepth();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        search.table().clear();
+    }
+
+    @Benchmark
+    public long timeToDepth() {
+        return searchAll(DEPTH);
+    }
+
+    private long searchAll(int depth) {
+        long nodes = 0;
+        for (BoardState state : positions) {
+            search.findBestMove(state, depth, Long.MAX_VALUE, MAX_MILLIS);
+            nodes += search.nodes();
+        }
+        return nodes;
+    }
+
+    /**
+     * Print the nodes to reach each depth from an empty table, and the branching factor they imply
+     */
+    private void reportNodesToDepth() {
+        long first = 0;
+        for (int depth = 1; depth <= DEPTH; depth++) {
+            search.table().clear();
+            long nodes = searchAll(depth);
+            if (depth == 1) {
+                first = nodes;
+                System.out.printf("%nordered=%b depth 1: %d nodes", ordered, nodes);
+                continue;
+            }
+            double branching = Math.pow((double) nodes / first, 1.0 / (depth - 1));
+            System.out.printf("%nordered=%b depth %d: %d nodes, effective branching factor %.2f",
+                    ordered, depth, nodes, branching);
+        }
+        System.out.println();
+        search.table().clear();
+    }
+}
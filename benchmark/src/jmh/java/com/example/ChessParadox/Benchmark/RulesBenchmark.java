@@ -0,0 +1,109 @@
+package com.example.ChessParadox.Benchmark;
+
+import com.example.ChessParadox.Classic.CheckScanner;
+import com.example.ChessParadox.Classic.Chessboard;
+import com.example.ChessParadox.Classic.Move;
+import com.example.ChessParadox.Pieces.Piece;
+import com.example.ChessParadox.TwoStepsAhead.TwoStepChessboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the Classic rules API the views call: move validation, check detection,
+ * game-over scans and the Two-Steps Ahead checkmate test.
+ * Each operation runs the call once on every position of the corpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RulesBenchmark {
+    @Param({BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.ENDGAME})
+    public String phase;
+
+    private Chessboard[] boards;
+    private TwoStepChessboard[] twoStepBoards;
+
+    // Every (piece, tile) pair of the side to move, validated by isValidMove
+    private Move[][] candidateMoves;
+
+    // A move of the king onto its own tile, which asks the scanner about the current position
+    private Move[] kingQueries;
+
+    @Setup
+    public void setup() {
+        String[] fens = BenchmarkPositions.fens(phase);
+        boards = new Chessboard[fens.length];
+        twoStepBoards = new TwoStepChessboard[fens.length];
+        candidateMoves = new Move[fens.length][];
+        kingQueries = new Move[fens.length];
+
+        for (int i = 0; i < fens.length; i++) {
+            Chessboard board = new Chessboard();
+            board.loadFen(fens[i]);
+            board.initCheckScanner();
+            boards[i] = board;
+
+            twoStepBoards[i] = new TwoStepChessboard();
+            twoStepBoards[i].loadFen(fens[i]);
+            twoStepBoards[i].initCheckScanner();
+
+            List<Move> moves = new ArrayList<>();
+            for (Piece piece : board.pieceList) {
+                if (piece.isWhite != board.position.whiteToMove) {
+                    continue;
+                }
+                for (int tile = 0; tile < 64; tile++) {
+                    moves.add(new Move(piece, tile % 8, tile / 8));
+                }
+            }
+            candidateMoves[i] = moves.toArray(new Move[0]);
+
+            Piece king = board.findKing(board.position.whiteToMove);
+            kingQueries[i] = new Move(king, king.col, king.row);
+        }
+    }
+
+    @Benchmark
+    public void isValidMove(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            Chessboard board = boards[i];
+            for (Move move : candidateMoves[i]) {
+                blackhole.consume(board.isValidMove(move));
+            }
+        }
+    }
+
+    @Benchmark
+    public void isKingInCheck(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            blackhole.consume(boards[i].getCheckScanner().isKingInCheck(kingQueries[i]));
+        }
+    }
+
+    @Benchmark
+    public void isGameOver(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            CheckScanner scanner = boards[i].getCheckScanner();
+            blackhole.consume(scanner.isGameOver(kingQueries[i].piece));
+        }
+    }
+
+    @Benchmark
+    public void twoStepCheckmate(Blackhole blackhole) {
+        for (TwoStepChessboard board : twoStepBoards) {
+            blackhole.consume(board.isKingInCheckmate(board.position.whiteToMove));
+        }
+    }
+}
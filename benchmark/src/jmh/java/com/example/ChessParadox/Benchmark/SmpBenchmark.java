@@ -0,0 +1,82 @@
+package com.example.ChessParadox.Benchmark;
+
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.ParallelSearch;
+import com.example.ChessParadox.Engine.TranspositionTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for the parallel search to reach a fixed depth on every middlegame position, by thread count.
+ * The table is cleared before each operation so no run profits from the one before. Setup prints the
+ * nodes the main thread needs to reach the depth: fewer than with one thread means it finds the helpers'
+ * table entries, which shows even where timing does not.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SmpBenchmark {
+    private static final int DEPTH = 5;
+    // Far beyond what depth 5 needs, so only the depth ends a search
+    private static final long MAX_MILLIS = 60_000;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private BoardState[] positions;
+    private ParallelSearch search;
+
+    @Setup
+    public void setup() {
+        positions = BenchmarkPositions.load(BenchmarkPositions.MIDDLEGAME);
+        search = new ParallelSearch(new TranspositionTable(16), threads);
+        reportMainNodes();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        search.table().clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        search.shutdown();
+    }
+
+    @Benchmark
+    public long timeToDepth() {
+        long nodes = 0;
+        for (BoardState state : positions) {
+            search.findBestMove(state, threads, DEPTH, Long.MAX_VALUE, MAX_MILLIS);
+            nodes += search.nodes();
+        }
+        return nodes;
+    }
+
+    /**
+     * Print the nodes of all threads and of the main thread alone to reach the depth from an empty table
+     */
+    private void reportMainNodes() {
+        long nodes = 0;
+        long mainNodes = 0;
+        for (BoardState state : positions) {
+            search.table().clear();
+            search.findBestMove(state, threads, DEPTH, Long.MAX_VALUE, MAX_MILLIS);
+            nodes += search.nodes();
+            mainNodes += search.mainNodes();
+        }
+        System.out.printf("%nthreads=%d depth %d: %d nodes, %d in the main thread%n", threads, DEPTH, nodes, mainNodes);
+        search.table().clear();
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.ChessParadox.Classic;
+
+import com.example.ChessParadox.Engine.AttackMaps;
+import com.example.ChessParadox.Engine.Attacks;
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.MoveGenerator;
+import com.example.ChessParadox.Engine.MoveList;
+import com.example.ChessParadox.Engine.PieceType;
+import com.example.ChessParadox.Pieces.Piece;
+
+/**
+ * Handles check detection logic for the chess game
+ */
+public class CheckScanner {
+    private final Chessboard chessBoard;
+
+    // Attacks, checkers and pins of the last position looked at, reused until a move changes it
+    private final AttackMaps attackMaps = new AttackMaps();
+
+    public CheckScanner(Chessboard chessBoard) {
+        this.chessBoard = chessBoard;
+    }
+
+    /**
+     * Get the attack maps of the position on the board, recomputing them only if it has changed
+     */
+    public AttackMaps getAttackMaps() {
+        BoardState position = chessBoard.position;
+        if (!attackMaps.isFor(position)) {
+            attackMaps.compute(position);
+        }
+        return attackMaps;
+    }
+
+    /**
+     * Check if the king of a side is in check in the current position
+     */
+    public boolean isKingInCheck(boolean isWhiteKing) {
+        return getAttackMaps().checkers(isWhiteKing) != 0L;
+    }
+
+    /**
+     * Determines if the king of the current player is in check after a move
+     */
+    public boolean isKingInCheck(Move move) {
+        Piece piece = move.piece;
+
+        // A piece staying where it is leaves the position unchanged, so the cached maps answer it
+        if (move.newCol == piece.col && move.newRow == piece.row) {
+            return isKingInCheck(piece.isWhite);
+        }
+
+        BoardState position = chessBoard.position;
+        int king = position.kingSquare(piece.isWhite);
+        if (king < 0) return false;
+
+        int from = BoardState.square(piece.col, piece.row);
+        int to = BoardState.square(move.newCol, move.newRow);
+        if (from == king) {
+            king = to;
+        }
+
+        // Sliders see the board with the piece lifted and dropped on its target, and a captured piece no longer attacks
+        long occupancy = (position.occupied & ~BoardState.bit(from)) | BoardState.bit(to);
+        long attackers = position.attackersOf(king, !piece.isWhite, occupancy);
+        return (attackers & ~BoardState.bit(to)) != 0L;
+    }
+
+    /**
+     * Check if a move that follows its piece's movement rules keeps its own king out of check.
+     * Pins and checkers come from the cached maps, so only king moves and en passant look further.
+     */
+    public boolean isKingSafeAfter(Move move) {
+        Piece piece = move.piece;
+        BoardState position = chessBoard.position;
+        AttackMaps maps = getAttackMaps();
+
+        int king = position.kingSquare(piece.isWhite);
+        if (king < 0) return true;
+
+        int from = BoardState.square(piece.col, piece.row);
+        int to = BoardState.square(move.newCol, move.newRow);
+        long target = BoardState.bit(to);
+
+        // The king may not step onto an attacked square, including one only covered through its old square
+        if (from == king) {
+            if ((maps.attacked(!piece.isWhite) & target) != 0L) {
+                return false;
+            }
+            long occupancy = position.occupied & ~BoardState.bit(from);
+            return (position.attackersOf(to, !piece.isWhite, occupancy) & ~target) == 0L;
+        }
+
+        // En passant removes two pawns from one rank, which a pin mask cannot describe: play it out
+        if (to == position.epSquare && PieceType.typeOf(position.pieceAt(from)) == PieceType.PAWN) {
+            position.makeMove(move.encode(position));
+            boolean inCheck = position.isKingAttacked(piece.isWhite);
+            position.unmakeMove();
+            return !inCheck;
+        }
+
+        // In check, the only other moves are capturing a single checker or stepping between it and the king
+        long checkers = maps.checkers(piece.isWhite);
+        if (checkers != 0L) {
+            if ((checkers & (checkers - 1)) != 0L) {
+                return false;
+            }
+            int checker = Long.numberOfTrailingZeros(checkers);
+            if (((Attacks.BETWEEN[king][checker] | checkers) & target) == 0L) {
+                return false;
+            }
+        }
+
+        // A pinned piece may only move along the line through its king
+        if ((maps.pinned(piece.isWhite) & BoardState.bit(from)) != 0L) {
+            return (Attacks.LINE[king][from] & target) != 0L;
+        }
+        return true;
+    }
+
+    /**
+     * Check if a square is attacked by a side, from the cached maps
+     */
+    public boolean isSquareAttacked(int col, int row, boolean byWhite) {
+        return (getAttackMaps().attacked(byWhite) & BoardState.bit(BoardState.square(col, row))) != 0L;
+    }
+
+    /**
+     * Determines if the game is over for the king's side (checkmate, stalemate or a draw)
+     */
+    public boolean isGameOver(Piece king) {
+        if (king == null) return false;
+
+        return getGameStatus(king.isWhite).isOver();
+    }
+
+    /**
+     * Work out the state of the game when the given side is to move
+     */
+    public GameStatus getGameStatus(boolean isWhiteToMove) {
+        // Having no legal move decides the game, even on the move that completes fifty moves
+        if (!chessBoard.hasLegalMove(isWhiteToMove)) {
+            return isKingInCheck(isWhiteToMove) ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+        }
+        return getDrawStatus(chessBoard.position);
+    }
+
+    /**
+     * Work out the state of the game in a position that is not on a board, such as a copy taken
+     * for a background thread. Uses only the position and the given scratch list.
+     */
+    public static GameStatus getGameStatus(BoardState position, boolean isWhiteToMove, MoveList scratch) {
+        // Having no legal move decides the game, even on the move that completes fifty moves
+        if (!MoveGenerator.hasLegalMove(position, isWhiteToMove, scratch)) {
+            return position.isKingAttacked(isWhiteToMove) ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+        }
+        return getDrawStatus(position);
+    }
+
+    private static GameStatus getDrawStatus(BoardState position) {
+        // Each draw test is constant time on the incrementally kept position
+        if (position.halfmoveClock >= 100) {
+            return GameStatus.DRAW_BY_FIFTY_MOVES;
+        }
+        if (position.repetitionCount() >= 3) {
+            return GameStatus.DRAW_BY_REPETITION;
+        }
+        if (position.isInsufficientMaterial()) {
+            return GameStatus.DRAW_BY_INSUFFICIENT_MATERIAL;
+        }
+        return GameStatus.ONGOING;
+    }
+}
\ No newline at end of file
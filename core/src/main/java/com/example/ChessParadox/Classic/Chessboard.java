@@ -0,0 +1,555 @@
+package com.example.ChessParadox.Classic;
+
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.MoveGenerator;
+import com.example.ChessParadox.Engine.MoveList;
+import com.example.ChessParadox.Engine.PieceType;
+import com.example.ChessParadox.Engine.Position;
+import com.example.ChessParadox.Pieces.Bishop;
+import com.example.ChessParadox.Pieces.King;
+import com.example.ChessParadox.Pieces.Knight;
+import com.example.ChessParadox.Pieces.Pawn;
+import com.example.ChessParadox.Pieces.Piece;
+import com.example.ChessParadox.Pieces.Queen;
+import com.example.ChessParadox.Pieces.Rook;
+
+import java.util.ArrayList;
+
+/**
+ * Represents the chess board and manages game rules
+ */
+public class Chessboard {
+    /**
+     * Receives the board events a user interface needs to react to
+     */
+    public interface BoardListener {
+        /**
+         * A piece was taken off the board by a capture
+         */
+        void onPieceCaptured(Piece piece, boolean capturedByWhite);
+
+        /**
+         * A pawn reached the last row; the listener must answer with promotePawn
+         */
+        void onPromotionPending(Piece pawn);
+
+        /**
+         * A move changed the given tiles (as square bits), including castling rook and en passant tiles
+         */
+        void onSquaresChanged(long squares);
+
+        /**
+         * Pieces changed outside of a regular move, e.g. after a promotion
+         */
+        void onBoardChanged();
+    }
+
+    public ArrayList<Piece> pieceList = new ArrayList<>();
+    public Piece selectedPiece;
+    public int enPassantTile = -1;
+    private CheckScanner checkScanner;
+
+    // Bitboard model of the pieces in pieceList, kept in sync on every board change
+    public final BoardState position = new BoardState();
+
+    // Immutable copy of the position after the last completed change, safe to hand to other threads
+    private volatile Position snapshot = Position.of(position);
+
+    // Piece object standing on each tile, for O(1) lookups by square
+    private final Piece[] tiles = new Piece[64];
+
+    // Scratch list reused by move generation queries
+    private final MoveList scratchMoves = new MoveList();
+
+    // Receiver of captures, promotions and board changes, null when running headless
+    private BoardListener listener;
+
+    // Number of captured pieces of each piece code since the board was set up
+    private final int[] capturedCounts = new int[16];
+
+    /**
+     * Set the listener notified of captures, promotions and board changes
+     */
+    public void setBoardListener(BoardListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Use the given list as the board's pieces and rebuild the position from it
+     */
+    public void setPieceList(ArrayList<Piece> pieces) {
+        this.pieceList = pieces;
+        this.enPassantTile = -1;
+        clearCaptures();
+        rebuildPosition();
+    }
+
+    /**
+     * Get how many pieces of a type and colour have been captured
+     */
+    public int getCapturedCount(int type, boolean isWhite) {
+        return capturedCounts[PieceType.code(type, isWhite)];
+    }
+
+    /**
+     * Get white's material minus black's in centipawns, kept up to date by every move and promotion
+     */
+    public int getMaterialBalance() {
+        return position.material;
+    }
+
+    private void clearCaptures() {
+        for (int i = 0; i < capturedCounts.length; i++) {
+            capturedCounts[i] = 0;
+        }
+    }
+
+    /**
+     * Replace the pieces on the board with the position described by a FEN string
+     */
+    public void loadFen(String fen) {
+        position.loadFen(fen);
+        enPassantTile = position.epSquare;
+        clearCaptures();
+        pieceList.clear();
+        for (int i = 0; i < tiles.length; i++) {
+            tiles[i] = null;
+        }
+
+        for (int square = 0; square < 64; square++) {
+            int code = position.pieceAt(square);
+            if (code == PieceType.NONE) {
+                continue;
+            }
+            boolean isWhite = PieceType.isWhite(code);
+            Piece piece = createPiece(PieceType.typeOf(code), square & 7, square >>> 3, isWhite);
+
+            // Kings and rooks keep their first move only while castling is still available,
+            // pawns only on their starting row
+            piece.isFirstMove = hasFirstMove(piece, square);
+            piece.hasMoved = !piece.isFirstMove;
+            pieceList.add(piece);
+            tiles[square] = piece;
+        }
+        publishSnapshot();
+    }
+
+    /**
+     * Work out whether a piece loaded from a FEN string still has its first move
+     */
+    private boolean hasFirstMove(Piece piece, int square) {
+        int rights = position.castlingRights;
+        int kingSide = piece.isWhite ? BoardState.WHITE_KINGSIDE : BoardState.BLACK_KINGSIDE;
+        int queenSide = piece.isWhite ? BoardState.WHITE_QUEENSIDE : BoardState.BLACK_QUEENSIDE;
+        int backRow = piece.isWhite ? 7 : 0;
+
+        switch (piece.type) {
+            case PieceType.PAWN:
+                return piece.row == (piece.isWhite ? 6 : 1);
+            case PieceType.KING:
+                return (rights & (kingSide | queenSide)) != 0 && square == getTileNum(4, backRow);
+            case PieceType.ROOK:
+                return ((rights & kingSide) != 0 && square == getTileNum(7, backRow))
+                        || ((rights & queenSide) != 0 && square == getTileNum(0, backRow));
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Create a piece object of a piece type
+     */
+    private Piece createPiece(int type, int col, int row, boolean isWhite) {
+        switch (type) {
+            case PieceType.PAWN:
+                return new Pawn(this, col, row, isWhite);
+            case PieceType.KNIGHT:
+                return new Knight(this, col, row, isWhite);
+            case PieceType.BISHOP:
+                return new Bishop(this, col, row, isWhite);
+            case PieceType.ROOK:
+                return new Rook(this, col, row, isWhite);
+            case PieceType.QUEEN:
+                return new Queen(this, col, row, isWhite);
+            case PieceType.KING:
+                return new King(this, col, row, isWhite);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Rebuild the bitboard position and tile lookup from the piece list
+     */
+    public void rebuildPosition() {
+        position.clear();
+        for (int i = 0; i < tiles.length; i++) {
+            tiles[i] = null;
+        }
+        for (Piece piece : pieceList) {
+            placePiece(piece);
+        }
+        syncSpecialMoveState();
+        publishSnapshot();
+    }
+
+    /**
+     * Get an immutable snapshot of the position after the last move, promotion or setup.
+     * Unlike the board itself it can be read from any thread.
+     */
+    public Position getSnapshot() {
+        return snapshot;
+    }
+
+    private void publishSnapshot() {
+        snapshot = Position.of(position);
+    }
+
+    /**
+     * Copy en passant and castling availability into the position; after this the
+     * position tracks both itself as moves are made
+     */
+    private void syncSpecialMoveState() {
+        position.epSquare = enPassantTile;
+
+        int rights = 0;
+        if (canCastleWith(7, 7, true)) rights |= BoardState.WHITE_KINGSIDE;
+        if (canCastleWith(0, 7, true)) rights |= BoardState.WHITE_QUEENSIDE;
+        if (canCastleWith(7, 0, false)) rights |= BoardState.BLACK_KINGSIDE;
+        if (canCastleWith(0, 0, false)) rights |= BoardState.BLACK_QUEENSIDE;
+        position.castlingRights = rights;
+        position.rehash();
+    }
+
+    /**
+     * Check that the king and the rook in the given corner have not moved yet
+     */
+    private boolean canCastleWith(int rookCol, int row, boolean isWhite) {
+        Piece king = getPiece(4, row);
+        Piece rook = getPiece(rookCol, row);
+        return king != null && king.isWhite == isWhite && king.isFirstMove && king.type == PieceType.KING
+                && rook != null && rook.isWhite == isWhite && rook.isFirstMove && rook.type == PieceType.ROOK;
+    }
+
+    /**
+     * Get the set of tiles (as square bits) a piece can legally move to
+     */
+    public long getLegalTargets(Piece piece) {
+        if (piece == null || getPiece(piece.col, piece.row) != piece) {
+            return 0L;
+        }
+        return MoveGenerator.legalTargets(position, getTileNum(piece.col, piece.row), scratchMoves);
+    }
+
+    /**
+     * Get the Zobrist key of the current position
+     */
+    public long getPositionHash() {
+        return position.hash;
+    }
+
+    /**
+     * Check if a colour has at least one legal move
+     */
+    public boolean hasLegalMove(boolean isWhite) {
+        return MoveGenerator.hasLegalMove(position, isWhite, scratchMoves);
+    }
+
+
+    /**
+     * Register a piece on its current tile in the position
+     */
+    private void placePiece(Piece piece) {
+        int square = getTileNum(piece.col, piece.row);
+        tiles[square] = piece;
+        position.put(square, piece.code());
+    }
+
+    /**
+     * Move a piece object to a new tile after the position has already been updated
+     */
+    private void setTile(Piece piece, int col, int row) {
+        int square = getTileNum(piece.col, piece.row);
+        if (tiles[square] == piece) {
+            tiles[square] = null;
+        }
+        piece.col = col;
+        piece.row = row;
+        tiles[getTileNum(col, row)] = piece;
+    }
+
+    /**
+     * Initialize the check scanner after the board is fully created
+     */
+    public void initCheckScanner() {
+        this.checkScanner = new CheckScanner(this);
+    }
+
+    /**
+     * Get the check scanner
+     */
+    public CheckScanner getCheckScanner() {
+        if (checkScanner == null) {
+            initCheckScanner();
+        }
+        return checkScanner;
+    }
+
+    /**
+     * Calculate tile number for en passant detection
+     */
+    public int getTileNum(int col, int row) {
+        return row * 8 + col;
+    }
+
+    /**
+     * Determine if a move is valid according to chess rules
+     */
+    public boolean isValidMove(Move move) {
+        if (move == null || move.piece == null) {
+            return false;
+        }
+
+        // Check if move is within board boundaries
+        if (move.newCol < 0 || move.newCol > 7 || move.newRow < 0 || move.newRow > 7) {
+            return false;
+        }
+
+        // Can't move to the same position
+        if (move.newCol == move.piece.col && move.newRow == move.piece.row) {
+            return false;
+        }
+
+        // Check piece-specific movement pattern
+        if (!move.piece.isValidMovement(move.newCol, move.newRow)) {
+            return false;
+        }
+
+        // Check if the move path is obstructed
+        if (move.piece.moveCollidesWithPiece(move.newCol, move.newRow)) {
+            return false;
+        }
+
+        // Can't capture own pieces
+        Piece pieceAtDestination = getPiece(move.newCol, move.newRow);
+        if (pieceAtDestination != null && sameTeam(move.piece, pieceAtDestination)) {
+            return false;
+        }
+
+        // Castling also needs unmoved pieces, a clear path and no attacked square on the king's way
+        if (move.piece.type == PieceType.KING && Math.abs(move.piece.col - move.newCol) > 1) {
+            return isCastlingValid(move) && getCheckScanner().isKingSafeAfter(move);
+        }
+
+        // Check if this move would put/leave the king in check
+        return getCheckScanner().isKingSafeAfter(move);
+    }
+
+    /**
+     * Determine if castling is valid
+     */
+    private boolean isCastlingValid(Move move) {
+        int row = move.piece.row;
+        boolean enemyIsWhite = !move.piece.isWhite;
+        CheckScanner scanner = getCheckScanner();
+
+        // Check that king and rook haven't moved
+        if (!move.piece.isFirstMove) {
+            return false;
+        }
+
+        // Check if king is in check
+        if (scanner.isKingInCheck(move.piece.isWhite)) {
+            return false;
+        }
+
+        // Kingside castling
+        if (move.newCol == 6) {
+            Piece rook = getPiece(7, row);
+            if (rook == null || rook.type != PieceType.ROOK || !rook.isFirstMove) {
+                return false;
+            }
+
+            // Check if path is clear
+            if (getPiece(5, row) != null || getPiece(6, row) != null) {
+                return false;
+            }
+
+            // Check if king passes through check
+            if (scanner.isSquareAttacked(5, row, enemyIsWhite)) {
+                return false;
+            }
+        }
+        // Queenside castling
+        else if (move.newCol == 2) {
+            Piece rook = getPiece(0, row);
+            if (rook == null || rook.type != PieceType.ROOK || !rook.isFirstMove) {
+                return false;
+            }
+
+            // Check if path is clear
+            if (getPiece(1, row) != null || getPiece(2, row) != null || getPiece(3, row) != null) {
+                return false;
+            }
+
+            // Check if king passes through check
+            if (scanner.isSquareAttacked(3, row, enemyIsWhite)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Find the king of a given color
+     */
+    public Piece findKing(boolean isWhite) {
+        int square = position.kingSquare(isWhite);
+        return square < 0 ? null : tiles[square];
+    }
+
+    /**
+     * Check if two pieces are on the same team
+     */
+    public boolean sameTeam(Piece p1, Piece p2) {
+        if (p1 == null || p2 == null) {
+            return false;
+        }
+        return p1.isWhite == p2.isWhite;
+    }
+
+    /**
+     * Get a piece at a specific position
+     */
+    public Piece getPiece(int col, int row) {
+        if (col < 0 || col > 7 || row < 0 || row > 7) {
+            return null;
+        }
+
+        return tiles[getTileNum(col, row)];
+    }
+
+    /**
+     * Make a move on the board
+     */
+    public void makeMove(Move move) {
+        int from = getTileNum(move.piece.col, move.piece.row);
+        int to = getTileNum(move.newCol, move.newRow);
+        int encoded = move.encode(position);
+
+        // The captured piece sits on the destination, or beside the pawn for en passant
+        int capturedTile = MoveGenerator.flag(encoded) == MoveGenerator.FLAG_EN_PASSANT
+                ? getTileNum(move.newCol, move.piece.row) : to;
+        Piece capturedPiece = tiles[capturedTile];
+        int capturedCode = MoveGenerator.captured(encoded);
+
+        // Update the position first, then mirror the change onto the piece objects
+        position.makeMove(encoded);
+        enPassantTile = position.epSquare;
+
+        if (capturedPiece != null) {
+            capturedCounts[capturedCode]++;
+
+            // Report the captured piece before removing it from the board
+            if (listener != null) {
+                listener.onPieceCaptured(capturedPiece, move.piece.isWhite);
+            }
+            tiles[capturedTile] = null;
+            pieceList.remove(capturedPiece);
+        }
+
+        long changed = BoardState.bit(from) | BoardState.bit(to) | BoardState.bit(capturedTile);
+
+        // Handle castling
+        if (MoveGenerator.flag(encoded) == MoveGenerator.FLAG_CASTLE) {
+            // Kingside rook goes from column 7 to 5, queenside rook from column 0 to 3
+            boolean kingside = move.newCol == 6;
+            Piece rook = getPiece(kingside ? 7 : 0, move.piece.row);
+            if (rook != null) {
+                changed |= BoardState.bit(getTileNum(rook.col, rook.row));
+                setTile(rook, kingside ? 5 : 3, rook.row);
+                changed |= BoardState.bit(getTileNum(rook.col, rook.row));
+                rook.isFirstMove = false;
+            }
+        }
+
+        // Move the piece
+        setTile(move.piece, move.newCol, move.newRow);
+        move.piece.isFirstMove = false;
+        move.piece.hasMoved = true;
+
+        // The new snapshot shares the old one's repetition keys instead of copying the board's
+        snapshot = snapshot.play(encoded);
+
+        if (listener != null) {
+            listener.onSquaresChanged(changed);
+        }
+
+        // Check for pawn promotion
+        if (move.piece.type == PieceType.PAWN) {
+            checkPawnPromotion(move.piece);
+        }
+    }
+
+    /**
+     * Check for pawn promotion when a pawn reaches the opposite end of the board
+     */
+    private void checkPawnPromotion(Piece pawn) {
+        // Check if pawn has reached the opposite end
+        if ((pawn.isWhite && pawn.row == 0) || (!pawn.isWhite && pawn.row == 7)) {
+            // We have a pawn promotion situation, let the listener ask for the piece
+            if (listener != null) {
+                listener.onPromotionPending(pawn);
+            } else {
+                // Auto-promote to Queen when nobody can choose, e.g. when running headless
+                promotePawn(pawn, PieceType.QUEEN);
+            }
+        }
+    }
+
+    /**
+     * Promote a pawn to another piece ("Queen", "Rook", "Bishop" or "Knight")
+     */
+    public void promotePawn(Piece pawn, String newPieceName) {
+        promotePawn(pawn, PieceType.fromName(newPieceName));
+    }
+
+    /**
+     * Promote a pawn to a piece type from PieceType (knight, bishop, rook or queen)
+     */
+    public void promotePawn(Piece pawn, int type) {
+        // Create a new piece of the desired type on the pawn's tile
+        if (type == PieceType.NONE || type == PieceType.PAWN || type == PieceType.KING) {
+            return;
+        }
+        Piece newPiece = createPiece(type, pawn.col, pawn.row, pawn.isWhite);
+
+        // Replace the pawn with the new piece; the position records it as part of the pawn's move,
+        // so its key in the repetition history is that of the promoted position
+        position.promoteLastMove(type);
+        tiles[getTileNum(pawn.col, pawn.row)] = newPiece;
+        pieceList.remove(pawn);
+        pieceList.add(newPiece);
+
+        // Mark the piece as having moved
+        newPiece.isFirstMove = false;
+        newPiece.hasMoved = true;
+        publishSnapshot();
+
+        if (listener != null) {
+            listener.onBoardChanged();
+        }
+    }
+
+    /**
+     * Put the pieces back in their starting position
+     */
+    public void reset() {
+        loadFen(BoardState.START_FEN);
+
+        if (listener != null) {
+            listener.onBoardChanged();
+        }
+    }
+}
\ No newline at end of file
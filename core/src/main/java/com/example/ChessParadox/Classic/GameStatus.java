@@ -0,0 +1,47 @@
+package com.example.ChessParadox.Classic;
+
+/**
+ * Outcome of a position for the side to move
+ */
+public enum GameStatus {
+    ONGOING,
+    CHECKMATE,
+    STALEMATE,
+    DRAW_BY_REPETITION,
+    DRAW_BY_FIFTY_MOVES,
+    DRAW_BY_INSUFFICIENT_MATERIAL;
+
+    /**
+     * Check if the game has ended
+     */
+    public boolean isOver() {
+        return this != ONGOING;
+    }
+
+    /**
+     * Check if the game has ended without a winner
+     */
+    public boolean isDraw() {
+        return this != ONGOING && this != CHECKMATE;
+    }
+
+    /**
+     * Get the message shown to the players, given which side is to move
+     */
+    public String describe(boolean isWhiteToMove) {
+        switch (this) {
+            case CHECKMATE:
+                return isWhiteToMove ? "Black wins by checkmate!" : "White wins by checkmate!";
+            case STALEMATE:
+                return "Draw by stalemate!";
+            case DRAW_BY_REPETITION:
+                return "Draw by threefold repetition!";
+            case DRAW_BY_FIFTY_MOVES:
+                return "Draw by the fifty-move rule!";
+            case DRAW_BY_INSUFFICIENT_MATERIAL:
+                return "Draw by insufficient material!";
+            default:
+                return "";
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.ChessParadox.Classic;
+
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.MoveGenerator;
+import com.example.ChessParadox.Engine.PieceType;
+import com.example.ChessParadox.Pieces.Piece;
+
+/**
+ * Represents a chess move from one position to another, as picked in the UI.
+ * The rules and the engine work on packed int moves (see MoveGenerator); this class only wraps one
+ * for the piece objects.
+ */
+public class Move {
+    public final int oldCol;
+    public final int oldRow;
+    public final int newCol;
+    public final int newRow;
+    public final Piece piece;
+
+    /**
+     * Creates a new move object
+     *
+     * @param piece The piece being moved
+     * @param newCol The destination column
+     * @param newRow The destination row
+     */
+    public Move(Piece piece, int newCol, int newRow) {
+        this.piece = piece;
+        this.oldCol = piece.col;
+        this.oldRow = piece.row;
+        this.newCol = newCol;
+        this.newRow = newRow;
+    }
+
+    /**
+     * Wrap a packed move for the piece standing on its origin square
+     */
+    public static Move fromEncoded(Chessboard chessboard, int move) {
+        int from = MoveGenerator.from(move);
+        int to = MoveGenerator.to(move);
+        return new Move(chessboard.getPiece(from % 8, from / 8), to % 8, to / 8);
+    }
+
+    /**
+     * Get the packed move this move stands for in a position
+     */
+    public int encode(BoardState position) {
+        int from = BoardState.square(piece.col, piece.row);
+        return MoveGenerator.createMove(position, from, BoardState.square(newCol, newRow), PieceType.NONE);
+    }
+}
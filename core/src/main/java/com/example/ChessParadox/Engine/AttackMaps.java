@@ -0,0 +1,119 @@
+package com.example.ChessParadox.Engine;
+
+/**
+ * Attack information of a position for both colours: the squares each side attacks, the enemy
+ * pieces checking each king and the pieces pinned against each king. Computed in one pass and
+ * reused for as long as the position it was computed for stays on the board.
+ * Arrays are indexed by PieceType colour index.
+ */
+public class AttackMaps {
+    // Squares attacked by each colour
+    public final long[] attacked = new long[2];
+
+    // Enemy pieces giving check to the king of each colour
+    public final long[] checkers = new long[2];
+
+    // Pieces of each colour that cannot leave the line between their king and an enemy slider
+    public final long[] pinned = new long[2];
+
+    // Key of the position the maps describe
+    private long hash;
+    private boolean computed;
+
+    /**
+     * Check if the maps describe the given position
+     */
+    public boolean isFor(BoardState state) {
+        return computed && hash == state.hash;
+    }
+
+    /**
+     * Recompute every map for a position
+     */
+    public void compute(BoardState state) {
+        for (int color = PieceType.WHITE_INDEX; color <= PieceType.BLACK_INDEX; color++) {
+            boolean isWhite = color == PieceType.WHITE_INDEX;
+            attacked[color] = attackedBy(state, isWhite);
+
+            int king = state.kingSquare(isWhite);
+            if (king < 0) {
+                checkers[color] = 0L;
+                pinned[color] = 0L;
+                continue;
+            }
+            checkers[color] = state.attackersOf(king, !isWhite, state.occupied);
+            pinned[color] = pinnedPieces(state, king, isWhite);
+        }
+        hash = state.hash;
+        computed = true;
+    }
+
+    public long attacked(boolean byWhite) {
+        return attacked[byWhite ? PieceType.WHITE_INDEX : PieceType.BLACK_INDEX];
+    }
+
+    public long checkers(boolean isWhite) {
+        return checkers[isWhite ? PieceType.WHITE_INDEX : PieceType.BLACK_INDEX];
+    }
+
+    public long pinned(boolean isWhite) {
+        return pinned[isWhite ? PieceType.WHITE_INDEX : PieceType.BLACK_INDEX];
+    }
+
+    /**
+     * Get every square attacked by the pieces of a colour
+     */
+    private static long attackedBy(BoardState state, boolean isWhite) {
+        long occupied = state.occupied;
+        long attacks = 0L;
+
+        long pawns = state.pieces(PieceType.PAWN, isWhite);
+        while (pawns != 0L) {
+            attacks |= Attacks.pawnAttacks(isWhite, Long.numberOfTrailingZeros(pawns));
+            pawns &= pawns - 1;
+        }
+        long knights = state.pieces(PieceType.KNIGHT, isWhite);
+        while (knights != 0L) {
+            attacks |= Attacks.KNIGHT[Long.numberOfTrailingZeros(knights)];
+            knights &= knights - 1;
+        }
+        long queens = state.pieces(PieceType.QUEEN, isWhite);
+        long diagonal = state.pieces(PieceType.BISHOP, isWhite) | queens;
+        while (diagonal != 0L) {
+            attacks |= Attacks.bishopAttacks(Long.numberOfTrailingZeros(diagonal), occupied);
+            diagonal &= diagonal - 1;
+        }
+        long straight = state.pieces(PieceType.ROOK, isWhite) | queens;
+        while (straight != 0L) {
+            attacks |= Attacks.rookAttacks(Long.numberOfTrailingZeros(straight), occupied);
+            straight &= straight - 1;
+        }
+        int king = state.kingSquare(isWhite);
+        if (king >= 0) {
+            attacks |= Attacks.KING[king];
+        }
+        return attacks;
+    }
+
+    /**
+     * Get the pieces of a colour standing alone between their king and an enemy slider aimed at it
+     */
+    private static long pinnedPieces(BoardState state, int king, boolean isWhite) {
+        long queens = state.pieces(PieceType.QUEEN, !isWhite);
+        long snipers = (Attacks.rookAttacks(king, 0L) & (state.pieces(PieceType.ROOK, !isWhite) | queens))
+                | (Attacks.bishopAttacks(king, 0L) & (state.pieces(PieceType.BISHOP, !isWhite) | queens));
+
+        long own = state.colorPieces(isWhite);
+        long pinned = 0L;
+        while (snipers != 0L) {
+            int sniper = Long.numberOfTrailingZeros(snipers);
+            snipers &= snipers - 1;
+
+            long blockers = Attacks.BETWEEN[king][sniper] & state.occupied;
+            if (blockers != 0L && (blockers & (blockers - 1)) == 0L) {
+                pinned |= blockers & own;
+            }
+        }
+        return pinned;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.ChessParadox.Engine;
+
+/**
+ * Precomputed attack tables for the bitboard engine
+ */
+public final class Attacks {
+    // Ray directions as (column step, row step)
+    public static final int NORTH = 0;
+    public static final int SOUTH = 1;
+    public static final int EAST = 2;
+    public static final int WEST = 3;
+    public static final int NORTH_EAST = 4;
+    public static final int NORTH_WEST = 5;
+    public static final int SOUTH_EAST = 6;
+    public static final int SOUTH_WEST = 7;
+
+    private static final int[] COL_STEP = {0, 0, 1, -1, 1, -1, 1, -1};
+    private static final int[] ROW_STEP = {-1, 1, 0, 0, -1, -1, 1, 1};
+
+    // Squares reachable by a knight or king from each square
+    public static final long[] KNIGHT = new long[64];
+    public static final long[] KING = new long[64];
+
+    // Squares attacked by a pawn of each colour (indexed by PieceType colour index)
+    public static final long[][] PAWN = new long[2][64];
+
+    // Every square along a direction from each square, up to the board edge
+    public static final long[][] RAYS = new long[8][64];
+
+    // Squares strictly between two squares on a shared rank, file or diagonal (empty otherwise)
+    public static final long[][] BETWEEN = new long[64][64];
+
+    // The whole rank, file or diagonal through two squares, both included (empty if they share none)
+    public static final long[][] LINE = new long[64][64];
+
+    // Direction pointing the opposite way of each direction
+    private static final int[] OPPOSITE = {SOUTH, NORTH, WEST, EAST, SOUTH_WEST, SOUTH_EAST, NORTH_WEST, NORTH_EAST};
+
+    static {
+        int[][] knightSteps = {{-1, -2}, {1, -2}, {2, -1}, {2, 1}, {1, 2}, {-1, 2}, {-2, 1}, {-2, -1}};
+
+        for (int sq = 0; sq < 64; sq++) {
+            int col = sq & 7;
+            int row = sq >>> 3;
+
+            for (int[] step : knightSteps) {
+                KNIGHT[sq] |= maskOf(col + step[0], row + step[1]);
+            }
+
+            for (int dir = 0; dir < 8; dir++) {
+                KING[sq] |= maskOf(col + COL_STEP[dir], row + ROW_STEP[dir]);
+
+                for (int i = 1; i < 8; i++) {
+                    RAYS[dir][sq] |= maskOf(col + i * COL_STEP[dir], row + i * ROW_STEP[dir]);
+                }
+            }
+
+            // White pawns move up the board (towards row 0), black pawns move down
+            PAWN[PieceType.WHITE_INDEX][sq] = maskOf(col - 1, row - 1) | maskOf(col + 1, row - 1);
+            PAWN[PieceType.BLACK_INDEX][sq] = maskOf(col - 1, row + 1) | maskOf(col + 1, row + 1);
+        }
+
+        for (int from = 0; from < 64; from++) {
+            for (int dir = 0; dir < 8; dir++) {
+                long line = RAYS[dir][from] | RAYS[OPPOSITE[dir]][from] | (1L << from);
+                long ray = RAYS[dir][from];
+                while (ray != 0L) {
+                    int to = Long.numberOfTrailingZeros(ray);
+                    ray &= ray - 1;
+                    BETWEEN[from][to] = RAYS[dir][from] & ~RAYS[dir][to] & ~(1L << to);
+                    LINE[from][to] = line;
+                }
+            }
+        }
+    }
+
+    private Attacks() {
+    }
+
+    private static long maskOf(int col, int row) {
+        if (col < 0 || col > 7 || row < 0 || row > 7) {
+            return 0L;
+        }
+        return 1L << (row * 8 + col);
+    }
+
+    /**
+     * Get the squares attacked by a pawn of a colour standing on a square
+     */
+    public static long pawnAttacks(boolean isWhite, int square) {
+        return PAWN[isWhite ? PieceType.WHITE_INDEX : PieceType.BLACK_INDEX][square];
+    }
+
+    /**
+     * Get the squares a ray reaches from a square, stopping at (and including) the first blocker
+     */
+    public static long rayAttacks(int dir, int square, long occupied) {
+        long ray = RAYS[dir][square];
+        long blockers = ray & occupied;
+        if (blockers == 0L) {
+            return ray;
+        }
+
+        // South and east point to higher square numbers, so the nearest blocker is the lowest bit
+        int blocker = ROW_STEP[dir] > 0 || (ROW_STEP[dir] == 0 && COL_STEP[dir] > 0)
+                ? Long.numberOfTrailingZeros(blockers)
+                : 63 - Long.numberOfLeadingZeros(blockers);
+        return ray ^ RAYS[dir][blocker];
+    }
+
+    /**
+     * Get the squares a rook attacks from a square given the occupied squares
+     */
+    public static long rookAttacks(int square, long occupied) {
+        return rayAttacks(NORTH, square, occupied) | rayAttacks(SOUTH, square, occupied)
+                | rayAttacks(EAST, square, occupied) | rayAttacks(WEST, square, occupied);
+    }
+
+    /**
+     * Get the squares a bishop attacks from a square given the occupied squares
+     */
+    public static long bishopAttacks(int square, long occupied) {
+        return rayAttacks(NORTH_EAST, square, occupied) | rayAttacks(NORTH_WEST, square, occupied)
+                | rayAttacks(SOUTH_EAST, square, occupied) | rayAttacks(SOUTH_WEST, square, occupied);
+    }
+
+    /**
+     * Get the squares a queen attacks from a square given the occupied squares
+     */
+    public static long queenAttacks(int square, long occupied) {
+        return rookAttacks(square, occupied) | bishopAttacks(square, occupied);
+    }
+}
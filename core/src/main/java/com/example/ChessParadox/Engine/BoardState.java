@@ -0,0 +1,593 @@
+package com.example.ChessParadox.Engine;
+
+/**
+ * Bitboard representation of a chess position.
+ * Squares are numbered like Chessboard tiles: square = row * 8 + col, with row 0 at the top
+ * (black's back rank). Each piece code owns a 64-bit set of the squares it occupies, and a
+ * 64-entry mailbox maps every square back to the piece code standing on it.
+ */
+public class BoardState {
+    public static final String START_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static final String FEN_PIECES = " pnbrqk";
+
+    // Castling rights bits
+    public static final int WHITE_KINGSIDE = 1;
+    public static final int WHITE_QUEENSIDE = 2;
+    public static final int BLACK_KINGSIDE = 4;
+    public static final int BLACK_QUEENSIDE = 8;
+
+    // One bitboard per piece code (see PieceType), unused codes stay empty
+    public final long[] pieces = new long[16];
+
+    // All white pieces and all black pieces
+    public final long[] colors = new long[2];
+
+    // All pieces of both colours
+    public long occupied;
+
+    // Piece code on every square, PieceType.NONE when empty
+    public final int[] mailbox = new int[64];
+
+    // Side to move, remaining castling rights and the square behind a pawn that just moved two squares
+    public boolean whiteToMove = true;
+    public int castlingRights;
+    public int epSquare = -1;
+
+    // Zobrist key of the position, kept up to date by every change made through this class
+    public long hash;
+
+    // White's material minus black's in centipawns (see PieceType.VALUE), kept up to date like the hash
+    public int material;
+
+    // Plies since the last capture or pawn move, for the fifty-move rule
+    public int halfmoveClock;
+
+    // Ring buffer of the keys of the latest positions, the current one included. Only positions
+    // since the last capture or pawn move can repeat, and after 100 of those the game is drawn
+    // anyway, so a short window is enough.
+    private static final int HISTORY_SIZE = 128;
+    private static final int HISTORY_MASK = HISTORY_SIZE - 1;
+    private final long[] keyHistory = new long[HISTORY_SIZE];
+    private int historyCount = 1;
+
+    // The light squares, those where row + col is even (a8 is square 0)
+    private static final long LIGHT_SQUARES = 0xAA55AA55AA55AA55L;
+
+    // Castling rights that survive a piece moving from or to each square
+    static final int[] CASTLING_MASK = new int[64];
+
+    static {
+        for (int sq = 0; sq < 64; sq++) {
+            CASTLING_MASK[sq] = WHITE_KINGSIDE | WHITE_QUEENSIDE | BLACK_KINGSIDE | BLACK_QUEENSIDE;
+        }
+        CASTLING_MASK[60] &= ~(WHITE_KINGSIDE | WHITE_QUEENSIDE);
+        CASTLING_MASK[63] &= ~WHITE_KINGSIDE;
+        CASTLING_MASK[56] &= ~WHITE_QUEENSIDE;
+        CASTLING_MASK[4] &= ~(BLACK_KINGSIDE | BLACK_QUEENSIDE);
+        CASTLING_MASK[7] &= ~BLACK_KINGSIDE;
+        CASTLING_MASK[0] &= ~BLACK_QUEENSIDE;
+    }
+
+    // Undo records of made moves: the move in the high half, and the captured piece code,
+    // previous en passant square, castling rights and halfmove clock packed in the low half.
+    // The hash before each move is kept alongside.
+    private long[] undoStack = new long[64];
+    private long[] hashStack = new long[64];
+    private int undoCount;
+
+    public BoardState() {
+    }
+
+    /**
+     * Create a copy of a position, e.g. to examine it on another thread while the original changes
+     */
+    public BoardState(BoardState other) {
+        copyFrom(other);
+    }
+
+    /**
+     * Make this position a copy of another. The repetition history is copied too, but not the
+     * moves made so far, so the copy cannot unmake past the point it was taken.
+     */
+    public void copyFrom(BoardState other) {
+        System.arraycopy(other.pieces, 0, pieces, 0, pieces.length);
+        colors[0] = other.colors[0];
+        colors[1] = other.colors[1];
+        occupied = other.occupied;
+        System.arraycopy(other.mailbox, 0, mailbox, 0, mailbox.length);
+        whiteToMove = other.whiteToMove;
+        castlingRights = other.castlingRights;
+        epSquare = other.epSquare;
+        hash = other.hash;
+        material = other.material;
+        halfmoveClock = other.halfmoveClock;
+        System.arraycopy(other.keyHistory, 0, keyHistory, 0, HISTORY_SIZE);
+        historyCount = other.historyCount;
+        undoCount = 0;
+    }
+
+    /**
+     * Set up the position of a snapshot. The snapshot's repetition history comes along, but no moves,
+     * so the copy cannot unmake past the point it was taken.
+     */
+    public void copyFrom(Position position) {
+        clear();
+        for (int sq = 0; sq < 64; sq++) {
+            int code = position.pieceAt(sq);
+            if (code != PieceType.NONE) {
+                put(sq, code);
+            }
+        }
+        whiteToMove = position.whiteToMove();
+        castlingRights = position.castlingRights();
+        epSquare = position.epSquare();
+        halfmoveClock = position.halfmoveClock();
+
+        historyCount = position.copyHistory(keyHistory, HISTORY_SIZE - 1) + 1;
+        rehash();
+    }
+
+    /**
+     * Get the square index for a column and row
+     */
+    public static int square(int col, int row) {
+        return row * 8 + col;
+    }
+
+    /**
+     * Get the single-bit mask of a square
+     */
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    /**
+     * Remove every piece from the board
+     */
+    public void clear() {
+        for (int i = 0; i < pieces.length; i++) {
+            pieces[i] = 0L;
+        }
+        colors[0] = 0L;
+        colors[1] = 0L;
+        occupied = 0L;
+        for (int sq = 0; sq < 64; sq++) {
+            mailbox[sq] = PieceType.NONE;
+        }
+        whiteToMove = true;
+        castlingRights = 0;
+        epSquare = -1;
+        hash = 0L;
+        material = 0;
+        halfmoveClock = 0;
+        undoCount = 0;
+        historyCount = 1;
+        keyHistory[0] = 0L;
+    }
+
+    /**
+     * Set up the position described by a FEN string
+     */
+    public void loadFen(String fen) {
+        clear();
+        String[] fields = fen.trim().split("\\s+");
+
+        // Piece placement, starting from the top row (rank 8)
+        int row = 0;
+        int col = 0;
+        for (char c : fields[0].toCharArray()) {
+            if (c == '/') {
+                row++;
+                col = 0;
+            } else if (Character.isDigit(c)) {
+                col += c - '0';
+            } else {
+                int type = FEN_PIECES.indexOf(Character.toLowerCase(c));
+                if (type <= 0 || col > 7 || row > 7) {
+                    throw new IllegalArgumentException("Invalid FEN piece placement: " + fen);
+                }
+                put(square(col, row), PieceType.code(type, Character.isUpperCase(c)));
+                col++;
+            }
+        }
+
+        whiteToMove = fields.length < 2 || fields[1].equals("w");
+
+        if (fields.length > 2) {
+            String castling = fields[2];
+            if (castling.indexOf('K') >= 0) castlingRights |= WHITE_KINGSIDE;
+            if (castling.indexOf('Q') >= 0) castlingRights |= WHITE_QUEENSIDE;
+            if (castling.indexOf('k') >= 0) castlingRights |= BLACK_KINGSIDE;
+            if (castling.indexOf('q') >= 0) castlingRights |= BLACK_QUEENSIDE;
+        }
+
+        if (fields.length > 3 && !fields[3].equals("-")) {
+            epSquare = square(fields[3].charAt(0) - 'a', '8' - fields[3].charAt(1));
+        }
+
+        if (fields.length > 4) {
+            halfmoveClock = Integer.parseInt(fields[4]);
+        }
+        rehash();
+    }
+
+    /**
+     * Describe the position as a FEN string
+     */
+    public String toFen() {
+        StringBuilder fen = new StringBuilder();
+        for (int row = 0; row < 8; row++) {
+            int empty = 0;
+            for (int col = 0; col < 8; col++) {
+                int code = mailbox[square(col, row)];
+                if (code == PieceType.NONE) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    fen.append(empty);
+                    empty = 0;
+                }
+                char c = FEN_PIECES.charAt(PieceType.typeOf(code));
+                fen.append(PieceType.isWhite(code) ? Character.toUpperCase(c) : c);
+            }
+            if (empty > 0) {
+                fen.append(empty);
+            }
+            if (row < 7) {
+                fen.append('/');
+            }
+        }
+
+        fen.append(whiteToMove ? " w " : " b ");
+        if (castlingRights == 0) {
+            fen.append('-');
+        } else {
+            if ((castlingRights & WHITE_KINGSIDE) != 0) fen.append('K');
+            if ((castlingRights & WHITE_QUEENSIDE) != 0) fen.append('Q');
+            if ((castlingRights & BLACK_KINGSIDE) != 0) fen.append('k');
+            if ((castlingRights & BLACK_QUEENSIDE) != 0) fen.append('q');
+        }
+
+        fen.append(' ');
+        if (epSquare < 0) {
+            fen.append('-');
+        } else {
+            fen.append((char) ('a' + (epSquare & 7))).append((char) ('8' - (epSquare >>> 3)));
+        }
+        return fen.append(' ').append(halfmoveClock).append(" 1").toString();
+    }
+
+    /**
+     * Compute the Zobrist key of the position from scratch
+     */
+    public long computeHash() {
+        long key = 0L;
+        for (int sq = 0; sq < 64; sq++) {
+            if (mailbox[sq] != PieceType.NONE) {
+                key ^= Zobrist.PIECE_SQUARE[mailbox[sq]][sq];
+            }
+        }
+        return key ^ stateKey();
+    }
+
+    /**
+     * Recompute the hash after the side to move, castling rights or en passant square were set directly
+     */
+    public void rehash() {
+        hash = computeHash();
+        keyHistory[(historyCount - 1) & HISTORY_MASK] = hash;
+    }
+
+    /**
+     * Get the keys of the earlier positions that can still repeat, those since the last capture or
+     * pawn move, oldest first
+     */
+    long[] reversibleHistory() {
+        int length = Math.min(Math.min(halfmoveClock, historyCount - 1), HISTORY_SIZE - 1);
+        long[] keys = new long[length];
+        for (int i = 0; i < length; i++) {
+            keys[i] = keyHistory[(historyCount - 1 - length + i) & HISTORY_MASK];
+        }
+        return keys;
+    }
+
+    /**
+     * Count how often the current position has occurred, the current occurrence included.
+     * Only positions with the same side to move since the last irreversible move are compared.
+     */
+    public int repetitionCount() {
+        int count = 1;
+        int limit = Math.min(Math.min(halfmoveClock, historyCount - 1), HISTORY_SIZE - 1);
+        for (int back = 2; back <= limit; back += 2) {
+            if (keyHistory[(historyCount - 1 - back) & HISTORY_MASK] == hash) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Check if neither side has enough material left to ever give checkmate:
+     * bare kings, a single minor piece, or only bishops that all stand on one square colour
+     */
+    public boolean isInsufficientMaterial() {
+        long heavy = pieces[PieceType.PAWN] | pieces[PieceType.PAWN | PieceType.BLACK]
+                | pieces[PieceType.ROOK] | pieces[PieceType.ROOK | PieceType.BLACK]
+                | pieces[PieceType.QUEEN] | pieces[PieceType.QUEEN | PieceType.BLACK];
+        if (heavy != 0L) {
+            return false;
+        }
+
+        long knights = pieces[PieceType.KNIGHT] | pieces[PieceType.KNIGHT | PieceType.BLACK];
+        long bishops = pieces[PieceType.BISHOP] | pieces[PieceType.BISHOP | PieceType.BLACK];
+        if (Long.bitCount(knights | bishops) <= 1) {
+            return true;
+        }
+        return knights == 0L && ((bishops & LIGHT_SQUARES) == 0L || (bishops & ~LIGHT_SQUARES) == 0L);
+    }
+
+    /**
+     * Get the hash contribution of everything but the pieces: side to move, castling rights and en passant
+     */
+    private long stateKey() {
+        long key = Zobrist.CASTLING[castlingRights] ^ enPassantKey();
+        return whiteToMove ? key : key ^ Zobrist.BLACK_TO_MOVE;
+    }
+
+    /**
+     * Get the hash contribution of the en passant square. It only counts when a pawn of the side to
+     * move can actually capture there, so positions with the same possible moves share a key.
+     */
+    private long enPassantKey() {
+        if (epSquare < 0) {
+            return 0L;
+        }
+        // Pawns of the side to move that attack the square sit where an enemy pawn on it would attack
+        long capturers = Attacks.pawnAttacks(!whiteToMove, epSquare) & pieces(PieceType.PAWN, whiteToMove);
+        return capturers != 0L ? Zobrist.EN_PASSANT_FILE[epSquare & 7] : 0L;
+    }
+
+    /**
+     * Place a piece on an empty square
+     */
+    public void put(int square, int code) {
+        long mask = bit(square);
+        pieces[code] |= mask;
+        colors[PieceType.colorOf(code)] |= mask;
+        occupied |= mask;
+        mailbox[square] = code;
+        hash ^= Zobrist.PIECE_SQUARE[code][square];
+        material += PieceType.signedValue(code);
+    }
+
+    /**
+     * Remove the piece on a square and return its code
+     */
+    public int remove(int square) {
+        int code = mailbox[square];
+        if (code != PieceType.NONE) {
+            long mask = ~bit(square);
+            pieces[code] &= mask;
+            colors[PieceType.colorOf(code)] &= mask;
+            occupied &= mask;
+            mailbox[square] = PieceType.NONE;
+            hash ^= Zobrist.PIECE_SQUARE[code][square];
+            material -= PieceType.signedValue(code);
+        }
+        return code;
+    }
+
+    /**
+     * Relocate a piece to an empty square
+     */
+    public void move(int from, int to) {
+        int code = mailbox[from];
+        long mask = bit(from) | bit(to);
+        pieces[code] ^= mask;
+        colors[PieceType.colorOf(code)] ^= mask;
+        occupied ^= mask;
+        mailbox[from] = PieceType.NONE;
+        mailbox[to] = code;
+        hash ^= Zobrist.PIECE_SQUARE[code][from] ^ Zobrist.PIECE_SQUARE[code][to];
+    }
+
+    /**
+     * Get the piece code on a square
+     */
+    public int pieceAt(int square) {
+        return mailbox[square];
+    }
+
+    /**
+     * Get the set of squares holding pieces of a type and colour
+     */
+    public long pieces(int type, boolean isWhite) {
+        return pieces[PieceType.code(type, isWhite)];
+    }
+
+    /**
+     * Get the set of squares holding pieces of a colour
+     */
+    public long colorPieces(boolean isWhite) {
+        return colors[isWhite ? PieceType.WHITE_INDEX : PieceType.BLACK_INDEX];
+    }
+
+    /**
+     * Get the square of the king of a colour, or -1 if there is none
+     */
+    public int kingSquare(boolean isWhite) {
+        long king = pieces(PieceType.KING, isWhite);
+        return king == 0L ? -1 : Long.numberOfTrailingZeros(king);
+    }
+
+    /**
+     * Play an encoded move (see MoveGenerator), recording what is needed to take it back
+     */
+    public void makeMove(int move) {
+        int from = MoveGenerator.from(move);
+        int to = MoveGenerator.to(move);
+        int flag = MoveGenerator.flag(move);
+        int promotion = MoveGenerator.promotion(move);
+        boolean isWhite = PieceType.isWhite(mailbox[from]);
+        long previousHash = hash;
+
+        // Take the old castling rights, en passant square and side to move out of the hash
+        hash ^= stateKey();
+
+        // Take the captured piece off the board; en passant captures the pawn behind the target
+        int capturedSquare = flag == MoveGenerator.FLAG_EN_PASSANT ? to + (isWhite ? 8 : -8) : to;
+        int captured = remove(capturedSquare);
+
+        if (undoCount == undoStack.length) {
+            long[] grown = new long[undoStack.length * 2];
+            System.arraycopy(undoStack, 0, grown, 0, undoCount);
+            undoStack = grown;
+            long[] grownHashes = new long[grown.length];
+            System.arraycopy(hashStack, 0, grownHashes, 0, undoCount);
+            hashStack = grownHashes;
+        }
+        hashStack[undoCount] = previousHash;
+        undoStack[undoCount++] = ((long) move << 32) | captured | ((epSquare + 1) << 4) | (castlingRights << 11)
+                | ((long) Math.min(halfmoveClock, 0xFFFF) << 15);
+
+        // Captures and pawn moves can never be undone in a game, so they restart the fifty-move count
+        boolean pawnMove = PieceType.typeOf(mailbox[from]) == PieceType.PAWN;
+        halfmoveClock = captured != PieceType.NONE || pawnMove ? 0 : halfmoveClock + 1;
+
+        move(from, to);
+        if (promotion != PieceType.NONE) {
+            remove(to);
+            put(to, PieceType.code(promotion, isWhite));
+        }
+
+        // Castling also brings the rook next to the king
+        if (flag == MoveGenerator.FLAG_CASTLE) {
+            if (to > from) {
+                move(from + 3, from + 1);
+            } else {
+                move(from - 4, from - 1);
+            }
+        }
+
+        epSquare = flag == MoveGenerator.FLAG_DOUBLE_PUSH ? (from + to) / 2 : -1;
+        castlingRights &= CASTLING_MASK[from] & CASTLING_MASK[to];
+        whiteToMove = !isWhite;
+        hash ^= stateKey();
+        keyHistory[historyCount++ & HISTORY_MASK] = hash;
+    }
+
+    /**
+     * Turn the pawn the last move brought to the last row into a piece of the given type, as if the
+     * move had been played as that promotion. The undo record and the repetition history are rewritten
+     * to match, so taking the move back and spotting repetitions work as for any promotion.
+     */
+    public void promoteLastMove(int type) {
+        int top = undoCount - 1;
+        int move = top < 0 ? 0 : (int) (undoStack[top] >>> 32);
+        int to = MoveGenerator.to(move);
+        if (top < 0 || PieceType.typeOf(mailbox[to]) != PieceType.PAWN || MoveGenerator.promotion(move) != PieceType.NONE) {
+            throw new IllegalStateException("The last move did not bring a pawn to the last row");
+        }
+
+        boolean isWhite = PieceType.isWhite(mailbox[to]);
+        remove(to);
+        put(to, PieceType.code(type, isWhite));
+
+        int promoted = MoveGenerator.encode(MoveGenerator.from(move), to, MoveGenerator.flag(move), type,
+                MoveGenerator.piece(move), MoveGenerator.captured(move));
+        undoStack[top] = (undoStack[top] & 0xFFFFFFFFL) | ((long) promoted << 32);
+        keyHistory[(historyCount - 1) & HISTORY_MASK] = hash;
+    }
+
+    /**
+     * Take back the last move played with makeMove
+     */
+    public void unmakeMove() {
+        long record = undoStack[--undoCount];
+        int move = (int) (record >>> 32);
+        int info = (int) record;
+
+        int from = MoveGenerator.from(move);
+        int to = MoveGenerator.to(move);
+        int flag = MoveGenerator.flag(move);
+
+        if (flag == MoveGenerator.FLAG_CASTLE) {
+            if (to > from) {
+                move(from + 1, from + 3);
+            } else {
+                move(from - 1, from - 4);
+            }
+        }
+
+        boolean isWhite = PieceType.isWhite(mailbox[to]);
+        if (MoveGenerator.promotion(move) != PieceType.NONE) {
+            remove(to);
+            put(to, PieceType.code(PieceType.PAWN, isWhite));
+        }
+        move(to, from);
+
+        int captured = info & 15;
+        if (captured != PieceType.NONE) {
+            put(flag == MoveGenerator.FLAG_EN_PASSANT ? to + (isWhite ? 8 : -8) : to, captured);
+        }
+
+        epSquare = ((info >>> 4) & 127) - 1;
+        castlingRights = (info >>> 11) & 15;
+        halfmoveClock = (info >>> 15) & 0xFFFF;
+        whiteToMove = isWhite;
+        hash = hashStack[undoCount];
+        historyCount--;
+    }
+
+    /**
+     * Check if a square is attacked by any piece of a colour
+     */
+    public boolean isSquareAttacked(int square, boolean byWhite) {
+        return isSquareAttacked(square, byWhite, occupied, 0L);
+    }
+
+    /**
+     * Check if a square is attacked by a colour on a modified board: sliders see the given
+     * occupancy, and pieces on the removed squares are treated as captured
+     */
+    public boolean isSquareAttacked(int square, boolean byWhite, long occupancy, long removed) {
+        long alive = ~removed;
+        if ((Attacks.KNIGHT[square] & pieces(PieceType.KNIGHT, byWhite) & alive) != 0L) {
+            return true;
+        }
+        if ((Attacks.KING[square] & pieces(PieceType.KING, byWhite)) != 0L) {
+            return true;
+        }
+        // A pawn attacks this square from where an opposite-coloured pawn here would attack
+        if ((Attacks.pawnAttacks(!byWhite, square) & pieces(PieceType.PAWN, byWhite) & alive) != 0L) {
+            return true;
+        }
+        long queens = pieces(PieceType.QUEEN, byWhite);
+        if ((Attacks.bishopAttacks(square, occupancy) & (pieces(PieceType.BISHOP, byWhite) | queens) & alive) != 0L) {
+            return true;
+        }
+        return (Attacks.rookAttacks(square, occupancy) & (pieces(PieceType.ROOK, byWhite) | queens) & alive) != 0L;
+    }
+
+    /**
+     * Get the set of pieces of a colour attacking a square, with sliders seeing the given occupancy
+     */
+    public long attackersOf(int square, boolean byWhite, long occupancy) {
+        long queens = pieces(PieceType.QUEEN, byWhite);
+        return (Attacks.KNIGHT[square] & pieces(PieceType.KNIGHT, byWhite))
+                | (Attacks.KING[square] & pieces(PieceType.KING, byWhite))
+                | (Attacks.pawnAttacks(!byWhite, square) & pieces(PieceType.PAWN, byWhite))
+                | (Attacks.bishopAttacks(square, occupancy) & (pieces(PieceType.BISHOP, byWhite) | queens))
+                | (Attacks.rookAttacks(square, occupancy) & (pieces(PieceType.ROOK, byWhite) | queens));
+    }
+
+    /**
+     * Check if the king of a colour is attacked
+     */
+    public boolean isKingAttacked(boolean isWhite) {
+        int king = kingSquare(isWhite);
+        return king >= 0 && isSquareAttacked(king, !isWhite);
+    }
+}
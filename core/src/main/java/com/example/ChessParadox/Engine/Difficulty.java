@@ -0,0 +1,21 @@
+package com.example.ChessParadox.Engine;
+
+/**
+ * Strength levels of the computer opponent, each a fixed budget for one search
+ */
+public enum Difficulty {
+    EASY(2, 5_000, 250),
+    MEDIUM(4, 100_000, 1_000),
+    HARD(Search.MAX_DEPTH, 2_000_000, 3_000);
+
+    // Deepest iteration, nodes and milliseconds one search may use, whichever runs out first
+    public final int maxDepth;
+    public final long maxNodes;
+    public final long maxMillis;
+
+    Difficulty(int maxDepth, long maxNodes, long maxMillis) {
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.maxMillis = maxMillis;
+    }
+}
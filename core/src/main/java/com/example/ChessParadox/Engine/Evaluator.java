@@ -0,0 +1,93 @@
+package com.example.ChessParadox.Engine;
+
+/**
+ * Static evaluation for the search: material plus a bonus or penalty for where each piece stands.
+ * Scores are in centipawns from the point of view of the side to move.
+ */
+public final class Evaluator {
+    // Square bonuses from white's point of view, laid out like the board (a8 first); black uses the
+    // square mirrored top to bottom. Indexed by piece type.
+    private static final int[][] SQUARE_BONUS = new int[PieceType.KING + 1][];
+
+    static {
+        SQUARE_BONUS[PieceType.PAWN] = new int[]{
+                0, 0, 0, 0, 0, 0, 0, 0,
+                50, 50, 50, 50, 50, 50, 50, 50,
+                10, 10, 20, 30, 30, 20, 10, 10,
+                5, 5, 10, 25, 25, 10, 5, 5,
+                0, 0, 0, 20, 20, 0, 0, 0,
+                5, -5, -10, 0, 0, -10, -5, 5,
+                5, 10, 10, -20, -20, 10, 10, 5,
+                0, 0, 0, 0, 0, 0, 0, 0};
+        SQUARE_BONUS[PieceType.KNIGHT] = new int[]{
+                -50, -40, -30, -30, -30, -30, -40, -50,
+                -40, -20, 0, 0, 0, 0, -20, -40,
+                -30, 0, 10, 15, 15, 10, 0, -30,
+                -30, 5, 15, 20, 20, 15, 5, -30,
+                -30, 0, 15, 20, 20, 15, 0, -30,
+                -30, 5, 10, 15, 15, 10, 5, -30,
+                -40, -20, 0, 5, 5, 0, -20, -40,
+                -50, -40, -30, -30, -30, -30, -40, -50};
+        SQUARE_BONUS[PieceType.BISHOP] = new int[]{
+                -20, -10, -10, -10, -10, -10, -10, -20,
+                -10, 0, 0, 0, 0, 0, 0, -10,
+                -10, 0, 5, 10, 10, 5, 0, -10,
+                -10, 5, 5, 10, 10, 5, 5, -10,
+                -10, 0, 10, 10, 10, 10, 0, -10,
+                -10, 10, 10, 10, 10, 10, 10, -10,
+                -10, 5, 0, 0, 0, 0, 5, -10,
+                -20, -10, -10, -10, -10, -10, -10, -20};
+        SQUARE_BONUS[PieceType.ROOK] = new int[]{
+                0, 0, 0, 0, 0, 0, 0, 0,
+                5, 10, 10, 10, 10, 10, 10, 5,
+                -5, 0, 0, 0, 0, 0, 0, -5,
+                -5, 0, 0, 0, 0, 0, 0, -5,
+                -5, 0, 0, 0, 0, 0, 0, -5,
+                -5, 0, 0, 0, 0, 0, 0, -5,
+                -5, 0, 0, 0, 0, 0, 0, -5,
+                0, 0, 0, 5, 5, 0, 0, 0};
+        SQUARE_BONUS[PieceType.QUEEN] = new int[]{
+                -20, -10, -10, -5, -5, -10, -10, -20,
+                -10, 0, 0, 0, 0, 0, 0, -10,
+                -10, 0, 5, 5, 5, 5, 0, -10,
+                -5, 0, 5, 5, 5, 5, 0, -5,
+                0, 0, 5, 5, 5, 5, 0, -5,
+                -10, 5, 5, 5, 5, 5, 0, -10,
+                -10, 0, 5, 0, 0, 0, 0, -10,
+                -20, -10, -10, -5, -5, -10, -10, -20};
+        SQUARE_BONUS[PieceType.KING] = new int[]{
+                -30, -40, -40, -50, -50, -40, -40, -30,
+                -30, -40, -40, -50, -50, -40, -40, -30,
+                -30, -40, -40, -50, -50, -40, -40, -30,
+                -30, -40, -40, -50, -50, -40, -40, -30,
+                -20, -30, -30, -40, -40, -30, -30, -20,
+                -10, -20, -20, -20, -20, -20, -20, -10,
+                20, 20, 0, 0, 0, 0, 20, 20,
+                20, 30, 10, 0, 0, 10, 30, 20};
+    }
+
+    private Evaluator() {
+    }
+
+    /**
+     * Score a position for the side to move
+     */
+    public static int evaluate(BoardState state) {
+        int score = state.material;
+        for (int type = PieceType.PAWN; type <= PieceType.KING; type++) {
+            int[] bonus = SQUARE_BONUS[type];
+            long white = state.pieces(type, true);
+            while (white != 0L) {
+                score += bonus[Long.numberOfTrailingZeros(white)];
+                white &= white - 1;
+            }
+            long black = state.pieces(type, false);
+            while (black != 0L) {
+                // Flip the row so black reads the table from its own side
+                score -= bonus[Long.numberOfTrailingZeros(black) ^ 56];
+                black &= black - 1;
+            }
+        }
+        return state.whiteToMove ? score : -score;
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.ChessParadox.Engine;
+
+/**
+ * Generates pseudo-legal and legal moves for a BoardState.
+ * Moves are encoded as ints: bits 0-5 hold the origin square, bits 6-11 the destination,
+ * bits 12-14 a special-move flag, bits 15-17 the promotion piece type (0 for none),
+ * bits 18-21 the code of the moving piece and bits 22-25 the code of the captured piece
+ * (0 for none, the passed pawn for en passant). The piece codes are filled in by the generator
+ * for move ordering and display; making a move only needs the squares, flag and promotion.
+ */
+public final class MoveGenerator {
+    public static final int FLAG_NORMAL = 0;
+    public static final int FLAG_DOUBLE_PUSH = 1;
+    public static final int FLAG_CASTLE = 2;
+    public static final int FLAG_EN_PASSANT = 3;
+
+    // Starting squares of the kings, used by castling
+    private static final int WHITE_KING_START = 60;
+    private static final int BLACK_KING_START = 4;
+
+    private MoveGenerator() {
+    }
+
+    public static int encode(int from, int to, int flag, int promotion) {
+        return from | (to << 6) | (flag << 12) | (promotion << 15);
+    }
+
+    public static int encode(int from, int to, int flag, int promotion, int piece, int captured) {
+        return from | (to << 6) | (flag << 12) | (promotion << 15) | (piece << 18) | (captured << 22);
+    }
+
+    public static int from(int move) {
+        return move & 63;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 63;
+    }
+
+    public static int flag(int move) {
+        return (move >>> 12) & 7;
+    }
+
+    public static int promotion(int move) {
+        return (move >>> 15) & 7;
+    }
+
+    public static int piece(int move) {
+        return (move >>> 18) & 15;
+    }
+
+    public static int captured(int move) {
+        return (move >>> 22) & 15;
+    }
+
+    public static boolean isCapture(int move) {
+        return captured(move) != PieceType.NONE;
+    }
+
+    /**
+     * Encode a move between two squares, working out its special-move flag from the position
+     */
+    public static int createMove(BoardState state, int from, int to, int promotion) {
+        int piece = state.pieceAt(from);
+        int type = PieceType.typeOf(piece);
+        int captured = state.pieceAt(to);
+        int flag = FLAG_NORMAL;
+        if (type == PieceType.KING && Math.abs(to - from) == 2) {
+            flag = FLAG_CASTLE;
+        } else if (type == PieceType.PAWN) {
+            if (Math.abs(to - from) == 16) {
+                flag = FLAG_DOUBLE_PUSH;
+            } else if (to == state.epSquare && (to & 7) != (from & 7) && captured == PieceType.NONE) {
+                flag = FLAG_EN_PASSANT;
+                captured = piece ^ PieceType.BLACK;
+            }
+        }
+        return encode(from, to, flag, promotion, piece, captured);
+    }
+
+    /**
+     * Generate the legal moves of the side to move
+     */
+    public static void generateLegal(BoardState state, MoveList out) {
+        generateLegal(state, state.whiteToMove, out);
+    }
+
+    /**
+     * Generate the legal moves of a colour, replacing the content of the list
+     */
+    public static void generateLegal(BoardState state, boolean isWhite, MoveList out) {
+        out.clear();
+        generatePseudoLegal(state, isWhite, out);
+
+        // Drop moves that leave the own king attacked, compacting the list in place
+        int size = out.size();
+        out.clear();
+        for (int i = 0; i < size; i++) {
+            int move = out.get(i);
+            if (isLegal(state, move)) {
+                out.add(move);
+            }
+        }
+    }
+
+    /**
+     * Check if a colour has at least one legal move
+     */
+    public static boolean hasLegalMove(BoardState state, boolean isWhite, MoveList scratch) {
+        scratch.clear();
+        generatePseudoLegal(state, isWhite, scratch);
+        for (int i = 0; i < scratch.size(); i++) {
+            if (isLegal(state, scratch.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the set of squares the piece on a square can legally move to
+     */
+    public static long legalTargets(BoardState state, int from, MoveList scratch) {
+        int code = state.pieceAt(from);
+        if (code == PieceType.NONE) {
+            return 0L;
+        }
+
+        scratch.clear();
+        generatePseudoLegal(state, PieceType.isWhite(code), scratch);
+
+        long targets = 0L;
+        for (int i = 0; i < scratch.size(); i++) {
+            int move = scratch.get(i);
+            if (from(move) == from && isLegal(state, move)) {
+                targets |= BoardState.bit(to(move));
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Check that a pseudo-legal move does not leave the mover's king attacked
+     */
+    public static boolean isLegal(BoardState state, int move) {
+        int from = from(move);
+        int to = to(move);
+        int code = state.pieceAt(from);
+        boolean isWhite = PieceType.isWhite(code);
+
+        // Work out which square is emptied by a capture, if any
+        long captured = 0L;
+        if (flag(move) == FLAG_EN_PASSANT) {
+            captured = BoardState.bit(to + (isWhite ? 8 : -8));
+        } else if (state.pieceAt(to) != PieceType.NONE) {
+            captured = BoardState.bit(to);
+        }
+
+        long occupancy = (state.occupied & ~BoardState.bit(from) & ~captured) | BoardState.bit(to);
+        int king = PieceType.typeOf(code) == PieceType.KING ? to : state.kingSquare(isWhite);
+        if (king < 0) {
+            return true;
+        }
+        return !state.isSquareAttacked(king, !isWhite, occupancy, captured);
+    }
+
+    /**
+     * Generate every move of a colour that follows piece movement rules, ignoring checks
+     */
+    public static void generatePseudoLegal(BoardState state, boolean isWhite, MoveList out) {
+        long own = state.colorPieces(isWhite);
+        long enemy = state.colorPieces(!isWhite);
+        long occupied = state.occupied;
+        long targetMask = ~own;
+
+        generatePawnMoves(state, isWhite, enemy, out);
+
+        long knights = state.pieces(PieceType.KNIGHT, isWhite);
+        while (knights != 0L) {
+            int from = Long.numberOfTrailingZeros(knights);
+            knights &= knights - 1;
+            addMoves(state, from, Attacks.KNIGHT[from] & targetMask, out);
+        }
+
+        long bishops = state.pieces(PieceType.BISHOP, isWhite);
+        while (bishops != 0L) {
+            int from = Long.numberOfTrailingZeros(bishops);
+            bishops &= bishops - 1;
+            addMoves(state, from, Attacks.bishopAttacks(from, occupied) & targetMask, out);
+        }
+
+        long rooks = state.pieces(PieceType.ROOK, isWhite);
+        while (rooks != 0L) {
+            int from = Long.numberOfTrailingZeros(rooks);
+            rooks &= rooks - 1;
+            addMoves(state, from, Attacks.rookAttacks(from, occupied) & targetMask, out);
+        }
+
+        long queens = state.pieces(PieceType.QUEEN, isWhite);
+        while (queens != 0L) {
+            int from = Long.numberOfTrailingZeros(queens);
+            queens &= queens - 1;
+            addMoves(state, from, Attacks.queenAttacks(from, occupied) & targetMask, out);
+        }
+
+        int king = state.kingSquare(isWhite);
+        if (king >= 0) {
+            addMoves(state, king, Attacks.KING[king] & targetMask, out);
+            generateCastling(state, isWhite, out);
+        }
+    }
+
+    private static void addMoves(BoardState state, int from, long targets, MoveList out) {
+        int piece = state.pieceAt(from);
+        while (targets != 0L) {
+            int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            out.add(encode(from, to, FLAG_NORMAL, PieceType.NONE, piece, state.pieceAt(to)));
+        }
+    }
+
+    private static void generatePawnMoves(BoardState state, boolean isWhite, long enemy, MoveList out) {
+        int push = isWhite ? -8 : 8;
+        int startRow = isWhite ? 6 : 1;
+        int promotionRow = isWhite ? 0 : 7;
+
+        // Only an enemy double push can be captured en passant
+        long epTarget = 0L;
+        if (state.epSquare >= 0 && (state.epSquare >>> 3) == (isWhite ? 2 : 5)) {
+            epTarget = BoardState.bit(state.epSquare);
+        }
+
+        int pawn = PieceType.code(PieceType.PAWN, isWhite);
+        int enemyPawn = PieceType.code(PieceType.PAWN, !isWhite);
+        long pawns = state.pieces(PieceType.PAWN, isWhite);
+        while (pawns != 0L) {
+            int from = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+
+            // A pawn still waiting on its promotion choice cannot move
+            if ((from >>> 3) == promotionRow) {
+                continue;
+            }
+
+            // Forward one square, and two from the starting row
+            int oneStep = from + push;
+            if (state.pieceAt(oneStep) == PieceType.NONE) {
+                addPawnMove(from, oneStep, promotionRow, pawn, PieceType.NONE, out);
+
+                int twoSteps = oneStep + push;
+                if ((from >>> 3) == startRow && state.pieceAt(twoSteps) == PieceType.NONE) {
+                    out.add(encode(from, twoSteps, FLAG_DOUBLE_PUSH, PieceType.NONE, pawn, PieceType.NONE));
+                }
+            }
+
+            // Diagonal captures
+            long attacks = Attacks.pawnAttacks(isWhite, from);
+            long captures = attacks & enemy;
+            while (captures != 0L) {
+                int to = Long.numberOfTrailingZeros(captures);
+                captures &= captures - 1;
+                addPawnMove(from, to, promotionRow, pawn, state.pieceAt(to), out);
+            }
+
+            // En passant capture of a pawn that just moved two squares
+            if ((attacks & epTarget) != 0L) {
+                out.add(encode(from, state.epSquare, FLAG_EN_PASSANT, PieceType.NONE, pawn, enemyPawn));
+            }
+        }
+    }
+
+    private static void addPawnMove(int from, int to, int promotionRow, int pawn, int captured, MoveList out) {
+        if ((to >>> 3) == promotionRow) {
+            out.add(encode(from, to, FLAG_NORMAL, PieceType.QUEEN, pawn, captured));
+            out.add(encode(from, to, FLAG_NORMAL, PieceType.ROOK, pawn, captured));
+            out.add(encode(from, to, FLAG_NORMAL, PieceType.BISHOP, pawn, captured));
+            out.add(encode(from, to, FLAG_NORMAL, PieceType.KNIGHT, pawn, captured));
+        } else {
+            out.add(encode(from, to, FLAG_NORMAL, PieceType.NONE, pawn, captured));
+        }
+    }
+
+    private static void generateCastling(BoardState state, boolean isWhite, MoveList out) {
+        int kingSide = isWhite ? BoardState.WHITE_KINGSIDE : BoardState.BLACK_KINGSIDE;
+        int queenSide = isWhite ? BoardState.WHITE_QUEENSIDE : BoardState.BLACK_QUEENSIDE;
+        if ((state.castlingRights & (kingSide | queenSide)) == 0) {
+            return;
+        }
+
+        int king = isWhite ? WHITE_KING_START : BLACK_KING_START;
+        if (state.pieceAt(king) != PieceType.code(PieceType.KING, isWhite) || state.isSquareAttacked(king, !isWhite)) {
+            return;
+        }
+
+        // The squares between king and rook must be empty and the king may not pass through check;
+        // the destination square is covered by the legality filter
+        long occupied = state.occupied;
+        int rook = PieceType.code(PieceType.ROOK, isWhite);
+        int kingCode = PieceType.code(PieceType.KING, isWhite);
+        if ((state.castlingRights & kingSide) != 0 && state.pieceAt(king + 3) == rook
+                && (occupied & (BoardState.bit(king + 1) | BoardState.bit(king + 2))) == 0L
+                && !state.isSquareAttacked(king + 1, !isWhite)) {
+            out.add(encode(king, king + 2, FLAG_CASTLE, PieceType.NONE, kingCode, PieceType.NONE));
+        }
+        if ((state.castlingRights & queenSide) != 0 && state.pieceAt(king - 4) == rook
+                && (occupied & (BoardState.bit(king - 1) | BoardState.bit(king - 2) | BoardState.bit(king - 3))) == 0L
+                && !state.isSquareAttacked(king - 1, !isWhite)) {
+            out.add(encode(king, king - 2, FLAG_CASTLE, PieceType.NONE, kingCode, PieceType.NONE));
+        }
+    }
+}
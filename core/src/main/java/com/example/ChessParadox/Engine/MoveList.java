@@ -0,0 +1,43 @@
+package com.example.ChessParadox.Engine;
+
+/**
+ * Reusable list of encoded moves backed by a primitive array
+ */
+public class MoveList {
+    // No legal chess position has more than 218 moves
+    private static final int CAPACITY = 256;
+
+    private final int[] moves = new int[CAPACITY];
+    private int size;
+
+    public void add(int move) {
+        moves[size++] = move;
+    }
+
+    public int get(int index) {
+        return moves[index];
+    }
+
+    public void set(int index, int move) {
+        moves[index] = move;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Keep only the first moves of the list
+     */
+    public void truncate(int newSize) {
+        size = newSize;
+    }
+}
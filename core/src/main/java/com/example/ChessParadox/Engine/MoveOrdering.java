@@ -0,0 +1,145 @@
+package com.example.ChessParadox.Engine;
+
+/**
+ * Move ordering for the search. Moves are tried in this order: the stored best move, captures and
+ * promotions by most valuable victim then least valuable attacker (MVV-LVA, values from PieceType.VALUE),
+ * the two killer moves of the ply, the counter move to the opponent's last move, and then the remaining
+ * quiet moves by butterfly history. Every table is a primitive array kept from one search to the next.
+ */
+class MoveOrdering {
+    private static final int HASH_MOVE = 1 << 30;
+    private static final int CAPTURE = 1 << 28;
+    private static final int KILLER = 1 << 27;
+    private static final int COUNTER_MOVE = 1 << 26;
+
+    // History scores stay below the counter move; they are halved once they get this high
+    private static final int HISTORY_LIMIT = COUNTER_MOVE / 2;
+
+    // Two quiet moves per ply that last caused a cutoff there
+    private final int[][] killers = new int[Search.MAX_DEPTH + 1][2];
+
+    // Cutoffs by quiet moves, indexed by side, from square and to square
+    private final int[] history = new int[2 * 64 * 64];
+
+    // Quiet reply that refuted a move, indexed by the moving piece code and to square of that move
+    private final int[] counterMoves = new int[16 * 64];
+
+    // Sort keys of the moves at each ply, parallel to the search's move lists
+    private final int[][] scores = new int[Search.MAX_DEPTH + 1][256];
+
+    /**
+     * Start a new search: killers belong to the old position's plies, while history is only weakened
+     */
+    void newSearch() {
+        for (int[] slots : killers) {
+            slots[0] = 0;
+            slots[1] = 0;
+        }
+        ageHistory();
+    }
+
+    /**
+     * Score the moves of a ply for pickNext
+     * @param hashMove Move to try first, or 0
+     * @param previousMove Move that led to this position, or 0 at the root
+     */
+    void score(MoveList list, int ply, int hashMove, int previousMove, boolean whiteToMove) {
+        int[] keys = scores[ply];
+        int side = whiteToMove ? PieceType.WHITE_INDEX : PieceType.BLACK_INDEX;
+        int counter = previousMove == 0 ? 0 : counterMoves[counterIndex(previousMove)];
+        int killer1 = killers[ply][0];
+        int killer2 = killers[ply][1];
+
+        for (int i = 0; i < list.size(); i++) {
+            int move = list.get(i);
+            int key;
+            if (move == hashMove) {
+                key = HASH_MOVE;
+            } else if (!isQuiet(move)) {
+                key = CAPTURE + mvvLva(move);
+            } else if (move == killer1) {
+                key = KILLER + 1;
+            } else if (move == killer2) {
+                key = KILLER;
+            } else if (move == counter) {
+                key = COUNTER_MOVE;
+            } else {
+                key = history[historyIndex(side, move)];
+            }
+            keys[i] = key;
+        }
+    }
+
+    /**
+     * Move the best scored of the moves from index on to that index (one step of a selection sort).
+     * Sorting lazily saves the work on the moves a cutoff never reaches.
+     */
+    void pickNext(MoveList list, int ply, int index) {
+        int[] keys = scores[ply];
+        int best = index;
+        for (int i = index + 1; i < list.size(); i++) {
+            if (keys[i] > keys[best]) {
+                best = i;
+            }
+        }
+        if (best != index) {
+            int move = list.get(best);
+            list.set(best, list.get(index));
+            list.set(index, move);
+            int key = keys[best];
+            keys[best] = keys[index];
+            keys[index] = key;
+        }
+    }
+
+    /**
+     * Learn from a quiet move that caused a beta cutoff
+     */
+    void onCutoff(int move, int ply, int depth, int previousMove, boolean whiteToMove) {
+        if (!isQuiet(move)) {
+            return;
+        }
+        if (killers[ply][0] != move) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = move;
+        }
+        if (previousMove != 0) {
+            counterMoves[counterIndex(previousMove)] = move;
+        }
+
+        int index = historyIndex(whiteToMove ? PieceType.WHITE_INDEX : PieceType.BLACK_INDEX, move);
+        history[index] += depth * depth;
+        if (history[index] >= HISTORY_LIMIT) {
+            ageHistory();
+        }
+    }
+
+    /**
+     * Captures by most valuable victim first, then by least valuable attacker; promotions count the
+     * gained piece as part of the victim
+     */
+    static int mvvLva(int move) {
+        int victim = PieceType.VALUE[PieceType.typeOf(MoveGenerator.captured(move))]
+                + PieceType.VALUE[MoveGenerator.promotion(move)];
+        int attacker = PieceType.typeOf(MoveGenerator.piece(move));
+        return victim * 8 - attacker;
+    }
+
+    private static boolean isQuiet(int move) {
+        return !MoveGenerator.isCapture(move) && MoveGenerator.promotion(move) == PieceType.NONE;
+    }
+
+    private static int historyIndex(int side, int move) {
+        return (side << 12) | (MoveGenerator.from(move) << 6) | MoveGenerator.to(move);
+    }
+
+    private static int counterIndex(int move) {
+        return (MoveGenerator.piece(move) << 6) | MoveGenerator.to(move);
+    }
+
+    private void ageHistory() {
+        for (int i = 0; i < history.length; i++) {
+            history[i] >>= 1;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.ChessParadox.Engine;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lazy SMP: the calling thread searches as usual while helper threads search the same position on
+ * their own copies, all sharing one transposition table. Helpers never report moves; the entries they
+ * store let the main search cut off and order moves sooner. The answer is the main search's move.
+ */
+public class ParallelSearch {
+    // Beyond this, threads mostly repeat each other's work on positions this small
+    public static final int MAX_THREADS = 8;
+
+    private final TranspositionTable table;
+
+    // The main search first, then one per helper thread
+    private final Search[] searches;
+    private final BoardState[] helperStates;
+    private final Future<?>[] running;
+
+    // Started with the first search that needs helpers, and again after shutdown()
+    private ExecutorService helpers;
+
+    // Tickets of the searches asked for, shared by the main search and its helpers (see Search)
+    private final AtomicInteger tickets = new AtomicInteger();
+
+    /**
+     * Create a search able to use up to the given number of threads, the calling one included
+     */
+    public ParallelSearch(TranspositionTable table, int maxThreads) {
+        int threads = Math.max(1, Math.min(MAX_THREADS, maxThreads));
+        this.table = table;
+        searches = new Search[threads];
+        helperStates = new BoardState[threads];
+        for (int i = 0; i < threads; i++) {
+            searches[i] = new Search(table);
+            helperStates[i] = new BoardState();
+        }
+        running = new Future<?>[threads];
+    }
+
+    /**
+     * Get how many threads to search with: every processor up to the given cap, and at most MAX_THREADS
+     * @param processors Processors available, e.g. Runtime.availableProcessors()
+     * @param cap Limit set by the caller's battery or thermal policy
+     */
+    public static int threadCount(int processors, int cap) {
+        return Math.max(1, Math.min(MAX_THREADS, Math.min(processors, cap)));
+    }
+
+    public int maxThreads() {
+        return searches.length;
+    }
+
+    public TranspositionTable table() {
+        return table;
+    }
+
+    /**
+     * Get a ticket for a search about to be asked for; stop() ends it even if it has not started yet
+     */
+    public int newTicket() {
+        return tickets.incrementAndGet();
+    }
+
+    /**
+     * Find the best move within the budget of a difficulty level
+     */
+    public int findBestMove(BoardState state, Difficulty difficulty, int threads) {
+        return findBestMove(newTicket(), state, difficulty, threads);
+    }
+
+    /**
+     * Find the best move within the budget of a difficulty level, under a ticket from newTicket()
+     */
+    public int findBestMove(int ticket, BoardState state, Difficulty difficulty, int threads) {
+        return findBestMove(ticket, state, threads, difficulty.maxDepth, difficulty.maxNodes, difficulty.maxMillis);
+    }
+
+    /**
+     * Find the best move with up to the given number of threads
+     */
+    public int findBestMove(BoardState state, int threads, int maxDepth, long maxNodes, long maxMillis) {
+        return findBestMove(newTicket(), state, threads, maxDepth, maxNodes, maxMillis);
+    }
+
+    /**
+     * Find the best move with up to the given number of threads, under a ticket from newTicket().
+     * Every thread gets the same depth, node and time limits, and helpers stop as soon as the main
+     * search has answered.
+     */
+    public int findBestMove(int ticket, BoardState state, int threads, int maxDepth, long maxNodes, long maxMillis) {
+        int helperCount = Math.max(0, Math.min(threads, searches.length) - 1);
+        table.newSearch();
+        ExecutorService pool = helperCount == 0 ? null : helpers();
+        for (int i = 1; i <= helperCount; i++) {
+            Search helper = searches[i];
+            BoardState copy = helperStates[i];
+            copy.copyFrom(state);
+
+            // Every other helper skips a depth, so not all of them work on the same iteration
+            int firstDepth = 1 + (i & 1);
+            try {
+                running[i] = pool.submit(() -> helper.search(ticket, copy, firstDepth, maxDepth, maxNodes, maxMillis));
+            } catch (RejectedExecutionException e) {
+                // Shut down meanwhile; the search is stopped anyway
+                helperCount = i - 1;
+                break;
+            }
+        }
+
+        int move = searches[0].search(ticket, state, 1, maxDepth, maxNodes, maxMillis);
+
+        for (int i = 1; i <= helperCount; i++) {
+            searches[i].stopThrough(ticket);
+        }
+        for (int i = 1; i <= helperCount; i++) {
+            awaitHelper(i);
+        }
+        return move;
+    }
+
+    /**
+     * Stop the running search from another thread, and any search given a ticket but not yet started;
+     * a running search answers with what it has
+     */
+    public void stop() {
+        int ticket = tickets.get();
+        for (Search search : searches) {
+            search.stopThrough(ticket);
+        }
+    }
+
+    private synchronized ExecutorService helpers() {
+        if (helpers == null) {
+            helpers = Executors.newFixedThreadPool(searches.length - 1, runnable -> {
+                Thread thread = new Thread(runnable, "SearchHelper");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return helpers;
+    }
+
+    /**
+     * Wait for a stopped helper to finish
+     */
+    private void awaitHelper(int index) {
+        try {
+            running[index].get();
+        } catch (CancellationException e) {
+            // Dropped by shutdown() before it started
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search helper failed", e.getCause());
+        }
+    }
+
+    /**
+     * Get the nodes searched by every thread in the last search
+     */
+    public long nodes() {
+        long nodes = 0;
+        for (Search search : searches) {
+            nodes += search.nodes();
+        }
+        return nodes;
+    }
+
+    /**
+     * Get the nodes searched by the main search alone in the last search
+     */
+    public long mainNodes() {
+        return searches[0].nodes();
+    }
+
+    public int completedDepth() {
+        return searches[0].completedDepth();
+    }
+
+    /**
+     * Stop searching and end the helper threads. The search stays usable; helpers are started again
+     * by the next search that needs them.
+     */
+    public void shutdown() {
+        stop();
+        synchronized (this) {
+            if (helpers != null) {
+                // Helpers still queued never run, so cancel them for whoever waits on them
+                for (Runnable queued : helpers.shutdownNow()) {
+                    if (queued instanceof Future) {
+                        ((Future<?>) queued).cancel(false);
+                    }
+                }
+                helpers = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.ChessParadox.Engine;
+
+/**
+ * Counts the leaf nodes of the legal move tree of a position (perft), used to check
+ * move generation against published node counts and to measure engine throughput
+ */
+public class Perft {
+    // One move list per ply so the walk allocates nothing
+    private final MoveList[] lists;
+
+    public Perft(int maxDepth) {
+        lists = new MoveList[maxDepth + 1];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = new MoveList();
+        }
+    }
+
+    /**
+     * Count the leaf nodes reached from the position after a number of plies
+     */
+    public long count(BoardState state, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+
+        MoveList moves = lists[depth];
+        MoveGenerator.generateLegal(state, moves);
+
+        // The last ply only needs the number of legal moves
+        if (depth == 1) {
+            return moves.size();
+        }
+
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            state.makeMove(moves.get(i));
+            nodes += count(state, depth - 1);
+            state.unmakeMove();
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.ChessParadox.Engine;
+
+/**
+ * Compact integer codes for piece types and colours used by the bitboard engine.
+ * A piece code is the piece type with the BLACK bit set for black pieces, so it
+ * fits in 4 bits and can index arrays directly. Code 0 (NONE) means an empty square.
+ */
+public final class PieceType {
+    public static final int NONE = 0;
+    public static final int PAWN = 1;
+    public static final int KNIGHT = 2;
+    public static final int BISHOP = 3;
+    public static final int ROOK = 4;
+    public static final int QUEEN = 5;
+    public static final int KING = 6;
+
+    // Colour bit of a piece code
+    public static final int BLACK = 8;
+
+    // Colour indexes used for per-side arrays
+    public static final int WHITE_INDEX = 0;
+    public static final int BLACK_INDEX = 1;
+
+    // Standard material value of each piece type in centipawns, indexed by type; the king has none
+    public static final int[] VALUE = {0, 100, 300, 300, 500, 900, 0};
+
+    private PieceType() {
+    }
+
+    /**
+     * Build a piece code from a type and colour
+     */
+    public static int code(int type, boolean isWhite) {
+        return isWhite ? type : type | BLACK;
+    }
+
+    /**
+     * Get the piece type of a piece code
+     */
+    public static int typeOf(int code) {
+        return code & 7;
+    }
+
+    /**
+     * Check if a (non-empty) piece code belongs to white
+     */
+    public static boolean isWhite(int code) {
+        return (code & BLACK) == 0;
+    }
+
+    /**
+     * Get the material of a piece code from white's point of view: positive for white, negative for black
+     */
+    public static int signedValue(int code) {
+        int value = VALUE[code & 7];
+        return isWhite(code) ? value : -value;
+    }
+
+    /**
+     * Get the colour index (WHITE_INDEX or BLACK_INDEX) of a piece code
+     */
+    public static int colorOf(int code) {
+        return code >>> 3;
+    }
+
+    /**
+     * Map a piece name ("Pawn", "Knight", ...) to its piece type
+     */
+    public static int fromName(String name) {
+        switch (name) {
+            case "Pawn": return PAWN;
+            case "Knight": return KNIGHT;
+            case "Bishop": return BISHOP;
+            case "Rook": return ROOK;
+            case "Queen": return QUEEN;
+            case "King": return KING;
+            default: return NONE;
+        }
+    }
+}
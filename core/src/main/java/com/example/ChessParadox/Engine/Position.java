@@ -0,0 +1,264 @@
+package com.example.ChessParadox.Engine;
+
+/**
+ * Immutable snapshot of a position: eight bitboards, the Zobrist key and the side to move,
+ * castling rights, en passant square and halfmove clock packed in one int, plus the keys of the
+ * positions since the last capture or pawn move so repetitions can still be told.
+ * Snapshots can be handed to other threads freely. Playing a move on one (copy-make) returns a new
+ * snapshot and leaves the original untouched, so no undo information is needed. The keys are a
+ * linked list shared with the snapshot a move was played from, so a move adds one key instead of
+ * copying the history; only loading a snapshot into a BoardState walks it.
+ */
+public final class Position {
+    // Pieces of each colour
+    private final long white;
+    private final long black;
+
+    // Pieces of each type, either colour
+    private final long pawns;
+    private final long knights;
+    private final long bishops;
+    private final long rooks;
+    private final long queens;
+    private final long kings;
+
+    // Bit 0 set when white is to move, castling rights in bits 1-4, en passant square + 1 in bits 5-11
+    // and the halfmove clock from bit 12
+    private final int state;
+
+    // Zobrist key, equal to the hash a BoardState holding the same position has
+    public final long hash;
+
+    // Keys of the earlier positions that can still repeat, newest first, or null when there are none
+    private final Keys history;
+
+    /**
+     * One key of a repetition history, linked to the keys of the positions before it
+     */
+    private static final class Keys {
+        final long key;
+        final Keys earlier;
+
+        Keys(long key, Keys earlier) {
+            this.key = key;
+            this.earlier = earlier;
+        }
+    }
+
+    private Position(long white, long black, long[] types, int state, long hash, Keys history) {
+        this.white = white;
+        this.black = black;
+        this.pawns = types[PieceType.PAWN];
+        this.knights = types[PieceType.KNIGHT];
+        this.bishops = types[PieceType.BISHOP];
+        this.rooks = types[PieceType.ROOK];
+        this.queens = types[PieceType.QUEEN];
+        this.kings = types[PieceType.KING];
+        this.state = state;
+        this.hash = hash;
+        this.history = history;
+    }
+
+    /**
+     * Take a snapshot of a position
+     */
+    public static Position of(BoardState state) {
+        long[] types = new long[PieceType.KING + 1];
+        for (int type = PieceType.PAWN; type <= PieceType.KING; type++) {
+            types[type] = state.pieces[type] | state.pieces[type | PieceType.BLACK];
+        }
+        Keys history = null;
+        for (long key : state.reversibleHistory()) {
+            history = new Keys(key, history);
+        }
+        return new Position(state.colors[PieceType.WHITE_INDEX], state.colors[PieceType.BLACK_INDEX], types,
+                pack(state.whiteToMove, state.castlingRights, state.epSquare, state.halfmoveClock), state.hash,
+                history);
+    }
+
+    private static int pack(boolean whiteToMove, int castlingRights, int epSquare, int halfmoveClock) {
+        return (whiteToMove ? 1 : 0) | (castlingRights << 1) | ((epSquare + 1) << 5) | (halfmoveClock << 12);
+    }
+
+    public boolean whiteToMove() {
+        return (state & 1) != 0;
+    }
+
+    public int castlingRights() {
+        return (state >>> 1) & 15;
+    }
+
+    public int epSquare() {
+        return ((state >>> 5) & 127) - 1;
+    }
+
+    public int halfmoveClock() {
+        return state >>> 12;
+    }
+
+    /**
+     * Write the keys of the earlier positions since the last capture or pawn move into an array,
+     * oldest first, at most as many as given
+     * @return Number of keys written
+     */
+    int copyHistory(long[] into, int limit) {
+        int length = 0;
+        for (Keys keys = history; keys != null && length < limit; keys = keys.earlier) {
+            length++;
+        }
+        Keys keys = history;
+        for (int i = length - 1; i >= 0; i--) {
+            into[i] = keys.key;
+            keys = keys.earlier;
+        }
+        return length;
+    }
+
+    public long occupied() {
+        return white | black;
+    }
+
+    public long colorPieces(boolean isWhite) {
+        return isWhite ? white : black;
+    }
+
+    /**
+     * Get the squares of all pieces of a type, either colour
+     */
+    public long pieces(int type) {
+        switch (type) {
+            case PieceType.PAWN:
+                return pawns;
+            case PieceType.KNIGHT:
+                return knights;
+            case PieceType.BISHOP:
+                return bishops;
+            case PieceType.ROOK:
+                return rooks;
+            case PieceType.QUEEN:
+                return queens;
+            case PieceType.KING:
+                return kings;
+            default:
+                return 0L;
+        }
+    }
+
+    public long pieces(int type, boolean isWhite) {
+        return pieces(type) & colorPieces(isWhite);
+    }
+
+    /**
+     * Get the piece code on a square, PieceType.NONE when empty
+     */
+    public int pieceAt(int square) {
+        long bit = BoardState.bit(square);
+        if (((white | black) & bit) == 0L) {
+            return PieceType.NONE;
+        }
+        int type = (pawns & bit) != 0L ? PieceType.PAWN
+                : (knights & bit) != 0L ? PieceType.KNIGHT
+                : (bishops & bit) != 0L ? PieceType.BISHOP
+                : (rooks & bit) != 0L ? PieceType.ROOK
+                : (queens & bit) != 0L ? PieceType.QUEEN
+                : PieceType.KING;
+        return PieceType.code(type, (white & bit) != 0L);
+    }
+
+    /**
+     * Play an encoded move (see MoveGenerator) and get the resulting position
+     */
+    public Position play(int move) {
+        int from = MoveGenerator.from(move);
+        int to = MoveGenerator.to(move);
+        int flag = MoveGenerator.flag(move);
+        int promotion = MoveGenerator.promotion(move);
+
+        boolean isWhite = whiteToMove();
+        int moving = pieceAt(from);
+        long[] types = {0L, pawns, knights, bishops, rooks, queens, kings};
+        long own = colorPieces(isWhite);
+        long enemy = colorPieces(!isWhite);
+        long pieceKey = hash ^ stateKey(state, pawns, own);
+
+        // Take the captured piece off the board; en passant captures the pawn behind the target
+        int capturedSquare = flag == MoveGenerator.FLAG_EN_PASSANT ? to + (isWhite ? 8 : -8) : to;
+        int captured = pieceAt(capturedSquare);
+        if (captured != PieceType.NONE) {
+            long bit = BoardState.bit(capturedSquare);
+            types[PieceType.typeOf(captured)] &= ~bit;
+            enemy &= ~bit;
+            pieceKey ^= Zobrist.PIECE_SQUARE[captured][capturedSquare];
+        }
+
+        long fromTo = BoardState.bit(from) | BoardState.bit(to);
+        types[PieceType.typeOf(moving)] ^= fromTo;
+        own ^= fromTo;
+        pieceKey ^= Zobrist.PIECE_SQUARE[moving][from] ^ Zobrist.PIECE_SQUARE[moving][to];
+
+        if (promotion != PieceType.NONE) {
+            int promoted = PieceType.code(promotion, isWhite);
+            types[PieceType.PAWN] &= ~BoardState.bit(to);
+            types[promotion] |= BoardState.bit(to);
+            pieceKey ^= Zobrist.PIECE_SQUARE[moving][to] ^ Zobrist.PIECE_SQUARE[promoted][to];
+        }
+
+        // Castling also brings the rook next to the king
+        if (flag == MoveGenerator.FLAG_CASTLE) {
+            int rookFrom = to > from ? from + 3 : from - 4;
+            int rookTo = to > from ? from + 1 : from - 1;
+            int rook = PieceType.code(PieceType.ROOK, isWhite);
+            long rookMove = BoardState.bit(rookFrom) | BoardState.bit(rookTo);
+            types[PieceType.ROOK] ^= rookMove;
+            own ^= rookMove;
+            pieceKey ^= Zobrist.PIECE_SQUARE[rook][rookFrom] ^ Zobrist.PIECE_SQUARE[rook][rookTo];
+        }
+
+        // Captures and pawn moves can never be undone in a game, so they restart the fifty-move count
+        boolean irreversible = captured != PieceType.NONE || PieceType.typeOf(moving) == PieceType.PAWN;
+        int epSquare = flag == MoveGenerator.FLAG_DOUBLE_PUSH ? (from + to) / 2 : -1;
+        int castling = castlingRights() & BoardState.CASTLING_MASK[from] & BoardState.CASTLING_MASK[to];
+        int next = pack(!isWhite, castling, epSquare, irreversible ? 0 : halfmoveClock() + 1);
+        long nextHash = pieceKey ^ stateKey(next, types[PieceType.PAWN], enemy);
+        Keys nextHistory = irreversible ? null : new Keys(hash, history);
+
+        return isWhite ? new Position(own, enemy, types, next, nextHash, nextHistory)
+                : new Position(enemy, own, types, next, nextHash, nextHistory);
+    }
+
+    /**
+     * Get the hash contribution of everything but the pieces, computed like BoardState does
+     * @param state Packed state of the position
+     * @param pawns Pawns of both colours
+     * @param toMove Pieces of the side to move
+     */
+    private static long stateKey(int state, long pawns, long toMove) {
+        boolean whiteToMove = (state & 1) != 0;
+        int epSquare = ((state >>> 5) & 127) - 1;
+        long key = Zobrist.CASTLING[(state >>> 1) & 15];
+        if (epSquare >= 0) {
+            // Only counts when a pawn of the side to move can actually capture there
+            long capturers = Attacks.pawnAttacks(!whiteToMove, epSquare) & pawns & toMove;
+            if (capturers != 0L) {
+                key ^= Zobrist.EN_PASSANT_FILE[epSquare & 7];
+            }
+        }
+        return whiteToMove ? key : key ^ Zobrist.BLACK_TO_MOVE;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof Position)) {
+            return false;
+        }
+        Position position = (Position) other;
+        return white == position.white && black == position.black && pawns == position.pawns
+                && knights == position.knights && bishops == position.bishops && rooks == position.rooks
+                && queens == position.queens && kings == position.kings && state == position.state;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
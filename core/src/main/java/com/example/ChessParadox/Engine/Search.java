@@ -0,0 +1,443 @@
+package com.example.ChessParadox.Engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Iterative-deepening principal variation search (alpha-beta with null windows after the first move).
+ * Each iteration starts with the best move of the previous one; the search stops at the depth, node or
+ * time limit, whichever comes first, and answers with the best move of the last finished iteration.
+ * Results are kept in a transposition table, which may be shared with other searches, and moves are
+ * ordered by MoveOrdering. At the horizon a quiescence search plays out captures until the position is
+ * quiet, so the evaluation never stops halfway through an exchange.
+ * An instance reuses its move lists and principal variation arrays and is meant for one thread.
+ */
+public class Search {
+    public static final int MAX_DEPTH = 64;
+
+    // Scores beyond MATE - MAX_DEPTH are mates, counted in plies from the root
+    public static final int INFINITY = 32000;
+    public static final int MATE = 30000;
+
+    // How often the clock is read, in nodes
+    private static final int CHECK_INTERVAL = 2048;
+
+    // Room for positional gains a capture can bring beyond its material, used by delta pruning
+    private static final int DELTA_MARGIN = 200;
+
+    // Material a promotion to a queen adds, on top of anything it captures
+    private static final int PROMOTION_GAIN = PieceType.VALUE[PieceType.QUEEN] - PieceType.VALUE[PieceType.PAWN];
+
+    // Squares from which a pawn promotes with its next move, for white and for black
+    private static final long WHITE_SEVENTH_RANK = 0x000000000000FF00L;
+    private static final long BLACK_SECOND_RANK = 0x00FF000000000000L;
+
+    // One move list per ply, so searching allocates nothing
+    private final MoveList[] moves = new MoveList[MAX_DEPTH + 1];
+
+    // Principal variation found at each ply
+    private final int[][] pv = new int[MAX_DEPTH + 1][MAX_DEPTH + 1];
+    private final int[] pvLength = new int[MAX_DEPTH + 1];
+
+    // Move played at each ply of the current line, for counter moves
+    private final int[] playedMoves = new int[MAX_DEPTH + 1];
+
+    private final TranspositionTable table;
+    private final MoveOrdering ordering = new MoveOrdering();
+    private boolean orderMoves = true;
+
+    private long nodes;
+    private long maxNodes;
+    private long deadline;
+
+    // Every search runs under a ticket; stop() ends all searches whose ticket was issued by then,
+    // including ones asked for but not yet started. Only the searching thread touches stopped.
+    private final AtomicInteger tickets = new AtomicInteger();
+    private final AtomicInteger stoppedThrough = new AtomicInteger();
+    private int ticket;
+    private boolean stopped;
+
+    private int completedDepth;
+    private int score;
+
+    /**
+     * Create a search with its own table, sized for the heap of this process
+     */
+    public Search() {
+        this(new TranspositionTable(TranspositionTable.defaultSizeMb(Runtime.getRuntime().maxMemory(), false)));
+    }
+
+    public Search(TranspositionTable table) {
+        this.table = table;
+        for (int ply = 0; ply <= MAX_DEPTH; ply++) {
+            moves[ply] = new MoveList();
+        }
+    }
+
+    public TranspositionTable table() {
+        return table;
+    }
+
+    /**
+     * Turn move ordering off, leaving only the stored best move first; for measuring what ordering saves
+     */
+    public void setMoveOrdering(boolean orderMoves) {
+        this.orderMoves = orderMoves;
+    }
+
+    /**
+     * Find the best move within the budget of a difficulty level
+     */
+    public int findBestMove(BoardState state, Difficulty difficulty) {
+        return findBestMove(state, difficulty.maxDepth, difficulty.maxNodes, difficulty.maxMillis);
+    }
+
+    /**
+     * Find the best move for the side to move, or 0 if it has none.
+     * The position is searched in place and left as it was.
+     */
+    public int findBestMove(BoardState state, int maxDepth, long maxNodes, long maxMillis) {
+        return findBestMove(newTicket(), state, maxDepth, maxNodes, maxMillis);
+    }
+
+    /**
+     * Find the best move under a ticket taken from newTicket() when the search was asked for, so a
+     * stop() made before the search gets to run still ends it
+     */
+    public int findBestMove(int ticket, BoardState state, int maxDepth, long maxNodes, long maxMillis) {
+        table.newSearch();
+        return search(ticket, state, 1, maxDepth, maxNodes, maxMillis);
+    }
+
+    /**
+     * Get a ticket for a search about to be asked for
+     */
+    public int newTicket() {
+        return tickets.incrementAndGet();
+    }
+
+    /**
+     * Find the best move, starting iterative deepening at the given depth. Helper threads of a
+     * parallel search start at different depths so they fill the shared table with different work.
+     * The caller starts the table's new search, once for all threads sharing it.
+     */
+    int search(int ticket, BoardState state, int firstDepth, int maxDepth, long maxNodes, long maxMillis) {
+        this.ticket = ticket;
+        stopped = ticket <= stoppedThrough.get();
+        nodes = 0;
+        this.maxNodes = maxNodes;
+        deadline = System.nanoTime() + maxMillis * 1_000_000L;
+        completedDepth = 0;
+        score = 0;
+        ordering.newSearch();
+
+        MoveList rootMoves = moves[0];
+        MoveGenerator.generateLegal(state, rootMoves);
+        if (rootMoves.isEmpty()) {
+            return 0;
+        }
+        int bestMove = rootMoves.get(0);
+
+        for (int depth = Math.min(firstDepth, maxDepth); depth <= Math.min(maxDepth, MAX_DEPTH); depth++) {
+            int result = searchRoot(state, depth, bestMove);
+            if (stopped) {
+                break;
+            }
+            bestMove = pv[0][0];
+            score = result;
+            completedDepth = depth;
+
+            // Nothing deeper changes a forced mate, and a single reply needs no thought
+            if (Math.abs(result) > MATE - MAX_DEPTH || rootMoves.size() == 1) {
+                break;
+            }
+        }
+        return bestMove;
+    }
+
+    /**
+     * Ask a running search to finish, and any search already given a ticket not to start; a running
+     * search answers with the last finished iteration. Safe from any thread.
+     */
+    public void stop() {
+        stopThrough(tickets.get());
+    }
+
+    /**
+     * Stop the searches with a ticket up to the given one, for tickets handed out by a ParallelSearch
+     */
+    void stopThrough(int ticket) {
+        stoppedThrough.accumulateAndGet(ticket, Math::max);
+    }
+
+    public long nodes() {
+        return nodes;
+    }
+
+    public int completedDepth() {
+        return completedDepth;
+    }
+
+    /**
+     * Score of the last finished iteration, for the side that was to move
+     */
+    public int score() {
+        return score;
+    }
+
+    private int searchRoot(BoardState state, int depth, int firstMove) {
+        pvLength[0] = 0;
+        MoveList list = moves[0];
+        MoveGenerator.generateLegal(state, list);
+        orderMoves(state, list, firstMove, 0);
+        return searchMoves(state, list, depth, -INFINITY, INFINITY, 0);
+    }
+
+    private int pvs(BoardState state, int depth, int alpha, int beta, int ply) {
+        pvLength[ply] = ply;
+        if (ply > 0 && isDraw(state)) {
+            return 0;
+        }
+
+        // Look one ply further when in check, so mates and checks are not cut off at the horizon
+        boolean inCheck = state.isKingAttacked(state.whiteToMove);
+        if (inCheck) {
+            depth++;
+        }
+        if (ply >= MAX_DEPTH) {
+            return Evaluator.evaluate(state);
+        }
+        if (depth <= 0) {
+            return quiescence(state, alpha, beta, ply);
+        }
+
+        // A stored result of at least this depth settles null-window nodes; on the principal variation
+        // it only supplies the move to try first, so the line stays complete
+        long entry = table.probe(state.hash);
+        int storedMove = 0;
+        if (entry != TranspositionTable.NO_ENTRY) {
+            storedMove = TranspositionTable.move(entry);
+            if (beta - alpha == 1 && TranspositionTable.depth(entry) >= depth) {
+                int stored = TranspositionTable.score(entry, ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER && stored >= beta)
+                        || (bound == TranspositionTable.UPPER && stored <= alpha)) {
+                    return stored;
+                }
+            }
+        }
+
+        MoveList list = moves[ply];
+        MoveGenerator.generateLegal(state, list);
+        if (list.isEmpty()) {
+            return inCheck ? -MATE + ply : 0;
+        }
+        orderMoves(state, list, storedMove, ply);
+        return searchMoves(state, list, depth, alpha, beta, ply);
+    }
+
+    /**
+     * Search every move of a list, the first with the full window and the rest with a null window first
+     */
+    private int searchMoves(BoardState state, MoveList list, int depth, int alpha, int beta, int ply) {
+        int originalAlpha = alpha;
+        int best = -INFINITY;
+        int bestMove = 0;
+        boolean whiteToMove = state.whiteToMove;
+        int previousMove = ply > 0 ? playedMoves[ply - 1] : 0;
+        for (int i = 0; i < list.size(); i++) {
+            if (orderMoves) {
+                ordering.pickNext(list, ply, i);
+            }
+            int move = list.get(i);
+            playedMoves[ply] = move;
+            countNode();
+
+            state.makeMove(move);
+            int result;
+            if (i == 0) {
+                result = -pvs(state, depth - 1, -beta, -alpha, ply + 1);
+            } else {
+                // Try to prove the move is no better than the best so far, and only search it fully if not
+                result = -pvs(state, depth - 1, -alpha - 1, -alpha, ply + 1);
+                if (result > alpha && result < beta) {
+                    result = -pvs(state, depth - 1, -beta, -alpha, ply + 1);
+                }
+            }
+            state.unmakeMove();
+
+            if (stopped) {
+                return 0;
+            }
+            if (result > best) {
+                best = result;
+                bestMove = move;
+                if (result > alpha) {
+                    alpha = result;
+                    updatePv(ply, move);
+                    if (alpha >= beta) {
+                        if (orderMoves) {
+                            ordering.onCutoff(move, ply, depth, previousMove, whiteToMove);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        int bound = best >= beta ? TranspositionTable.LOWER
+                : best > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER;
+        table.store(state.hash, bestMove, best, depth, bound, ply);
+        return best;
+    }
+
+    /**
+     * Search captures and promotions only, letting the side to move stand on the static evaluation
+     * instead when that is good enough. In check every evasion is searched, as standing is not an option.
+     */
+    private int quiescence(BoardState state, int alpha, int beta, int ply) {
+        pvLength[ply] = ply;
+        boolean inCheck = state.isKingAttacked(state.whiteToMove);
+        if (ply >= MAX_DEPTH) {
+            return Evaluator.evaluate(state);
+        }
+
+        int best = -INFINITY;
+        int standPat = 0;
+        if (!inCheck) {
+            standPat = Evaluator.evaluate(state);
+            if (standPat >= beta) {
+                return standPat;
+            }
+            // Delta pruning: not even winning a queen, and promoting if a pawn is about to, would bring
+            // the score up to alpha
+            int maxGain = PieceType.VALUE[PieceType.QUEEN];
+            if (canPromote(state)) {
+                maxGain += PROMOTION_GAIN;
+            }
+            if (standPat + maxGain + DELTA_MARGIN < alpha) {
+                return standPat;
+            }
+            best = standPat;
+            alpha = Math.max(alpha, standPat);
+        }
+
+        MoveList list = moves[ply];
+        MoveGenerator.generateLegal(state, list);
+        if (list.isEmpty()) {
+            return inCheck ? -MATE + ply : 0;
+        }
+        if (!inCheck) {
+            keepTactical(list);
+        }
+        if (orderMoves) {
+            ordering.score(list, ply, 0, 0, state.whiteToMove);
+        }
+
+        for (int i = 0; i < list.size(); i++) {
+            if (orderMoves) {
+                ordering.pickNext(list, ply, i);
+            }
+            int move = list.get(i);
+            if (!inCheck) {
+                // Delta pruning per move: the capture or promotion cannot raise the score to alpha
+                int gain = PieceType.VALUE[PieceType.typeOf(MoveGenerator.captured(move))];
+                if (MoveGenerator.promotion(move) != PieceType.NONE) {
+                    gain += PieceType.VALUE[MoveGenerator.promotion(move)] - PieceType.VALUE[PieceType.PAWN];
+                }
+                if (standPat + gain + DELTA_MARGIN <= alpha) {
+                    continue;
+                }
+                // Captures that lose material in the exchange are not worth a look
+                if (StaticExchange.evaluate(state, move) < 0) {
+                    continue;
+                }
+            }
+            playedMoves[ply] = move;
+            countNode();
+
+            state.makeMove(move);
+            int result = -quiescence(state, -beta, -alpha, ply + 1);
+            state.unmakeMove();
+
+            if (stopped) {
+                return 0;
+            }
+            if (result > best) {
+                best = result;
+                if (result > alpha) {
+                    alpha = result;
+                    updatePv(ply, move);
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Whether the side to move has a pawn one step from promoting
+     */
+    private static boolean canPromote(BoardState state) {
+        long pawns = state.pieces(PieceType.PAWN, state.whiteToMove);
+        return (pawns & (state.whiteToMove ? WHITE_SEVENTH_RANK : BLACK_SECOND_RANK)) != 0L;
+    }
+
+    /**
+     * Drop the quiet moves of a list, keeping captures and promotions
+     */
+    private static void keepTactical(MoveList list) {
+        int kept = 0;
+        for (int i = 0; i < list.size(); i++) {
+            int move = list.get(i);
+            if (MoveGenerator.isCapture(move) || MoveGenerator.promotion(move) != PieceType.NONE) {
+                list.set(kept++, move);
+            }
+        }
+        list.truncate(kept);
+    }
+
+    /**
+     * A position that repeats one seen before, or falls under the fifty-move or material rules, is a draw
+     */
+    private static boolean isDraw(BoardState state) {
+        return state.halfmoveClock >= 100 || state.repetitionCount() >= 2 || state.isInsufficientMaterial();
+    }
+
+    private void countNode() {
+        nodes++;
+        if (nodes >= maxNodes || ticket <= stoppedThrough.get()
+                || ((nodes & (CHECK_INTERVAL - 1)) == 0 && System.nanoTime() >= deadline)) {
+            stopped = true;
+        }
+    }
+
+    private void updatePv(int ply, int move) {
+        pv[ply][ply] = move;
+        int length = pvLength[ply + 1];
+        for (int i = ply + 1; i < length; i++) {
+            pv[ply][i] = pv[ply + 1][i];
+        }
+        pvLength[ply] = Math.max(length, ply + 1);
+    }
+
+    private void orderMoves(BoardState state, MoveList list, int hashMove, int ply) {
+        if (orderMoves) {
+            ordering.score(list, ply, hashMove, ply > 0 ? playedMoves[ply - 1] : 0, state.whiteToMove);
+        } else if (hashMove != 0) {
+            moveToFront(list, hashMove);
+        }
+    }
+
+    private static void moveToFront(MoveList list, int move) {
+        for (int i = 1; i < list.size(); i++) {
+            if (list.get(i) == move) {
+                list.set(i, list.get(0));
+                list.set(0, move);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.ChessParadox.Engine;
+
+/**
+ * Static exchange evaluation: the material won or lost by the sequence of captures on one square, with
+ * each side recapturing with its least valuable piece and free to stop when going on would lose.
+ * Worked out from attack sets alone, without making moves, so it is cheap enough for move pruning and
+ * for marking hanging pieces after every move. Pins and checks are ignored, as usual for SEE.
+ */
+public final class StaticExchange {
+    // Capturing with the king only works if nothing recaptures; this value makes that come out
+    private static final int KING_VALUE = 20000;
+
+    private StaticExchange() {
+    }
+
+    /**
+     * Get the material a capture wins for the side making it, in centipawns; negative if it loses.
+     * A move that captures nothing is scored as moving its piece onto the square; a promotion also
+     * gains the new piece over the pawn.
+     */
+    public static int evaluate(BoardState state, int move) {
+        int from = MoveGenerator.from(move);
+        int to = MoveGenerator.to(move);
+        int piece = MoveGenerator.piece(move);
+        long occupied = state.occupied;
+
+        // The pawn taken en passant is not on the target square
+        if (MoveGenerator.flag(move) == MoveGenerator.FLAG_EN_PASSANT) {
+            occupied &= ~BoardState.bit(PieceType.isWhite(piece) ? to + 8 : to - 8);
+        }
+        int victimValue = valueOf(MoveGenerator.captured(move));
+        int attackerValue = valueOf(piece);
+
+        // A promoting pawn gains the new piece, and that piece is what the opponent can take back
+        int promotion = MoveGenerator.promotion(move);
+        if (promotion != PieceType.NONE) {
+            victimValue += PieceType.VALUE[promotion] - PieceType.VALUE[PieceType.PAWN];
+            attackerValue = PieceType.VALUE[promotion];
+        }
+        return exchange(state, to, from, victimValue, PieceType.isWhite(piece), attackerValue, occupied);
+    }
+
+    /**
+     * Get the material the opponent of the piece on a square wins by starting captures there, or 0
+     * if the square is empty, not attacked, or capturing does not pay
+     */
+    public static int threatOn(BoardState state, int square) {
+        int victim = state.pieceAt(square);
+        if (victim == PieceType.NONE) {
+            return 0;
+        }
+        boolean byWhite = !PieceType.isWhite(victim);
+        long attackers = state.attackersOf(square, byWhite, state.occupied);
+        if (attackers == 0L) {
+            return 0;
+        }
+        int from = leastValuable(state, attackers);
+        return Math.max(0, exchange(state, square, from, valueOf(victim), byWhite, valueOf(state.pieceAt(from)),
+                state.occupied));
+    }
+
+    /**
+     * Get the pieces of a colour the opponent wins material by capturing, as square bits
+     */
+    public static long hangingPieces(BoardState state, boolean isWhite) {
+        long hanging = 0L;
+        // The king cannot be won by exchanges, checks are shown elsewhere
+        long pieces = state.colorPieces(isWhite) & ~state.pieces(PieceType.KING, isWhite);
+        while (pieces != 0L) {
+            int square = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            if (threatOn(state, square) > 0) {
+                hanging |= BoardState.bit(square);
+            }
+        }
+        return hanging;
+    }
+
+    /**
+     * Play out the captures on a square, starting with a piece of the given value taking the victim
+     */
+    private static int exchange(BoardState state, int to, int from, int victimValue, boolean byWhite,
+                                int attackerValue, long occupied) {
+        return victimValue - recapture(state, to, !byWhite, attackerValue, occupied & ~BoardState.bit(from));
+    }
+
+    /**
+     * Get what a side wins by taking back on a square, or 0 if it is better off stopping. Recursing
+     * once per capture keeps the swap list on the stack, so nothing is allocated.
+     */
+    private static int recapture(BoardState state, int to, boolean sideWhite, int victimValue, long occupied) {
+        // Sliders behind pieces that already captured join in, since those left the occupancy
+        long attackers = state.attackersOf(to, sideWhite, occupied) & occupied;
+        if (attackers == 0L) {
+            return 0;
+        }
+        int from = leastValuable(state, attackers);
+        int gain = victimValue - recapture(state, to, !sideWhite, valueOf(state.pieceAt(from)),
+                occupied & ~BoardState.bit(from));
+        return Math.max(0, gain);
+    }
+
+    private static int leastValuable(BoardState state, long attackers) {
+        for (int type = PieceType.PAWN; type <= PieceType.KING; type++) {
+            long ofType = attackers & (state.pieces[type] | state.pieces[type | PieceType.BLACK]);
+            if (ofType != 0L) {
+                return Long.numberOfTrailingZeros(ofType);
+            }
+        }
+        return Long.numberOfTrailingZeros(attackers);
+    }
+
+    private static int valueOf(int code) {
+        int type = PieceType.typeOf(code);
+        return type == PieceType.KING ? KING_VALUE : PieceType.VALUE[type];
+    }
+}
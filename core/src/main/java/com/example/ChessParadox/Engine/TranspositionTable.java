@@ -0,0 +1,214 @@
+package com.example.ChessParadox.Engine;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size table of search results keyed by Zobrist hash, stored in one primitive array.
+ * Each bucket holds two entries: one kept for the deepest search of the current game move, and one
+ * always replaced by the latest result. An entry is two longs, the key XOR the data followed by the
+ * data, so an entry torn by two threads writing at once fails the key check instead of being read
+ * back wrong. That lets several search threads share a table without any locking.
+ */
+public class TranspositionTable {
+    // Bound types: the stored score is exact, at least the score (beta cutoff) or at most it (fail low)
+    public static final int EXACT = 1;
+    public static final int LOWER = 2;
+    public static final int UPPER = 3;
+
+    // Returned by probe when the position is not stored; stored data never has bound 0
+    public static final long NO_ENTRY = 0L;
+
+    private static final int LONGS_PER_BUCKET = 4;
+    private static final int BYTES_PER_BUCKET = LONGS_PER_BUCKET * Long.BYTES;
+
+    // Data layout: move in bits 0-25, score + 32768 in bits 26-41, depth in bits 42-49,
+    // bound in bits 50-51 and the search generation in bits 52-57
+    private static final int SCORE_SHIFT = 26;
+    private static final int DEPTH_SHIFT = 42;
+    private static final int BOUND_SHIFT = 50;
+    private static final int AGE_SHIFT = 52;
+    private static final int MOVE_MASK = (1 << 26) - 1;
+
+    // Buckets sampled to estimate how full the table is
+    private static final int FILL_SAMPLE = 1000;
+
+    private final long[] table;
+    private final long bucketMask;
+    private int age;
+
+    // Usage counters for tuning; updated without synchronization, so approximate with several threads
+    private long probes;
+    private long hits;
+    private long stores;
+
+    /**
+     * Create a table using at most the given number of megabytes, rounded down to a power of two buckets
+     */
+    public TranspositionTable(int megabytes) {
+        long buckets = Long.highestOneBit(Math.max(1L, (long) megabytes * 1024 * 1024 / BYTES_PER_BUCKET));
+        table = new long[(int) buckets * LONGS_PER_BUCKET];
+        bucketMask = buckets - 1;
+    }
+
+    /**
+     * Pick a table size for a device: a sixteenth of the heap, a quarter of that on low-RAM devices,
+     * between 1 and 64 megabytes
+     * @param maxHeapBytes Largest heap the process may use, e.g. Runtime.maxMemory()
+     * @param lowRamDevice Whether the system reports a low-RAM device
+     */
+    public static int defaultSizeMb(long maxHeapBytes, boolean lowRamDevice) {
+        long megabytes = maxHeapBytes / 16 / (1024 * 1024);
+        if (lowRamDevice) {
+            megabytes /= 4;
+        }
+        return (int) Math.max(1, Math.min(64, megabytes));
+    }
+
+    /**
+     * Get the size of the table in megabytes
+     */
+    public int sizeMb() {
+        return (int) ((long) table.length * Long.BYTES / (1024 * 1024));
+    }
+
+    /**
+     * Start a new search; entries of earlier searches become the first to be replaced
+     */
+    public void newSearch() {
+        age = (age + 1) & 63;
+    }
+
+    /**
+     * Forget every entry and reset the counters, e.g. for a new game
+     */
+    public void clear() {
+        Arrays.fill(table, 0L);
+        probes = 0;
+        hits = 0;
+        stores = 0;
+    }
+
+    /**
+     * Look up a position, returning its data or NO_ENTRY
+     */
+    public long probe(long key) {
+        probes++;
+        int index = (int) (key & bucketMask) * LONGS_PER_BUCKET;
+        for (int slot = index; slot < index + LONGS_PER_BUCKET; slot += 2) {
+            long data = table[slot + 1];
+            if ((table[slot] ^ data) == key && data != NO_ENTRY) {
+                hits++;
+                return data;
+            }
+        }
+        return NO_ENTRY;
+    }
+
+    /**
+     * Store the result of searching a position
+     * @param score Score relative to the side to move, with mates counted from the current ply
+     * @param ply Distance from the root, used to store mate scores relative to this position
+     */
+    public void store(long key, int move, int score, int depth, int bound, int ply) {
+        stores++;
+        long data = (move & MOVE_MASK)
+                | ((long) (toStored(score, ply) + 32768) << SCORE_SHIFT)
+                | ((long) Math.max(0, Math.min(255, depth)) << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) age << AGE_SHIFT);
+
+        int index = (int) (key & bucketMask) * LONGS_PER_BUCKET;
+        long kept = table[index + 1];
+        boolean sameKey = (table[index] ^ kept) == key;
+
+        // The depth-preferred slot takes the result if it searched at least as deep, or if what is there
+        // is left over from an earlier search; otherwise the always-replace slot does
+        int slot = index + 2;
+        if (kept == NO_ENTRY || sameKey || ageOf(kept) != age || depth >= depth(kept)) {
+            slot = index;
+        }
+        table[slot] = key ^ data;
+        table[slot + 1] = data;
+    }
+
+    public static int move(long data) {
+        return (int) (data & MOVE_MASK);
+    }
+
+    /**
+     * Get the stored score as seen from the given ply
+     */
+    public static int score(long data, int ply) {
+        int stored = (int) ((data >>> SCORE_SHIFT) & 0xFFFF) - 32768;
+        return fromStored(stored, ply);
+    }
+
+    public static int depth(long data) {
+        return (int) ((data >>> DEPTH_SHIFT) & 0xFF);
+    }
+
+    public static int bound(long data) {
+        return (int) ((data >>> BOUND_SHIFT) & 3);
+    }
+
+    private static int ageOf(long data) {
+        return (int) ((data >>> AGE_SHIFT) & 63);
+    }
+
+    // Mate scores count plies from the root; stored, they count from the position itself
+    private static int toStored(int score, int ply) {
+        if (score > Search.MATE - Search.MAX_DEPTH) {
+            return score + ply;
+        }
+        if (score < -Search.MATE + Search.MAX_DEPTH) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int fromStored(int score, int ply) {
+        if (score > Search.MATE - Search.MAX_DEPTH) {
+            return score - ply;
+        }
+        if (score < -Search.MATE + Search.MAX_DEPTH) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    public long probes() {
+        return probes;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long stores() {
+        return stores;
+    }
+
+    /**
+     * Get the share of probes that found their position
+     */
+    public double hitRate() {
+        return probes == 0 ? 0.0 : (double) hits / probes;
+    }
+
+    /**
+     * Estimate how full the table is with entries of the current search, in permille
+     */
+    public int fillPermille() {
+        int buckets = (int) Math.min(FILL_SAMPLE, bucketMask + 1);
+        int used = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            for (int slot = 0; slot < LONGS_PER_BUCKET; slot += 2) {
+                long data = table[bucket * LONGS_PER_BUCKET + slot + 1];
+                if (data != NO_ENTRY && ageOf(data) == age) {
+                    used++;
+                }
+            }
+        }
+        return used * 1000 / (buckets * 2);
+    }
+}
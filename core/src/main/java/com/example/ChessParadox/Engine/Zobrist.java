@@ -0,0 +1,40 @@
+package com.example.ChessParadox.Engine;
+
+import java.util.Random;
+
+/**
+ * Random keys combined by XOR into a 64-bit position hash (Zobrist hashing).
+ * A fixed seed keeps hashes stable between runs so they can be stored and compared.
+ */
+public final class Zobrist {
+    // One key per piece code and square
+    public static final long[][] PIECE_SQUARE = new long[16][64];
+
+    // Toggled when black is to move
+    public static final long BLACK_TO_MOVE;
+
+    // One key per combination of castling rights bits
+    public static final long[] CASTLING = new long[16];
+
+    // One key per file of a capturable en passant square
+    public static final long[] EN_PASSANT_FILE = new long[8];
+
+    static {
+        Random random = new Random(0x5EED_C0DE_2024L);
+        for (int code = 0; code < 16; code++) {
+            for (int sq = 0; sq < 64; sq++) {
+                PIECE_SQUARE[code][sq] = random.nextLong();
+            }
+        }
+        BLACK_TO_MOVE = random.nextLong();
+        for (int rights = 1; rights < 16; rights++) {
+            CASTLING[rights] = random.nextLong();
+        }
+        for (int file = 0; file < 8; file++) {
+            EN_PASSANT_FILE[file] = random.nextLong();
+        }
+    }
+
+    private Zobrist() {
+    }
+}
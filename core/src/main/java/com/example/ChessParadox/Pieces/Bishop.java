@@ -0,0 +1,11 @@
+package com.example.ChessParadox.Pieces;
+
+import com.example.ChessParadox.Classic.Chessboard;
+import com.example.ChessParadox.Engine.PieceType;
+
+public class Bishop extends Piece {
+    public Bishop(Chessboard chessBoard, int col, int row, boolean isWhite) {
+        super(chessBoard, col, row, isWhite, PieceType.BISHOP);
+        this.name = "Bishop";
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.ChessParadox.Pieces;
+
+import com.example.ChessParadox.Classic.Chessboard;
+import com.example.ChessParadox.Engine.PieceType;
+
+public class Knight extends Piece {
+    public Knight(Chessboard chessBoard, int col, int row, boolean isWhite) {
+        super(chessBoard, col, row, isWhite, PieceType.KNIGHT);
+        this.name = "Knight";
+    }
+
+    // Knights jump over pieces, so their rules never report a collision
+}
@@ -1,10 +1,11 @@
 package com.example.ChessParadox.Pieces;
 
 import com.example.ChessParadox.Classic.Chessboard;
+import com.example.ChessParadox.Engine.PieceType;
 
 public class Pawn extends Piece {
     public Pawn(Chessboard chessBoard, int col, int row, boolean isWhite) {
-        super(chessBoard, col, row, isWhite);
+        super(chessBoard, col, row, isWhite, PieceType.PAWN);
         this.name = "Pawn";
     }
 
@@ -33,24 +34,20 @@ public class Pawn extends Piece {
                 return !chessBoard.sameTeam(this, targetPiece);
             }
 
-            // En passant capture
+            // En passant capture, the tile is only set right after the enemy pawn moved two squares
             int enPassantTile = chessBoard.getTileNum(col, row);
             if (enPassantTile == chessBoard.enPassantTile) {
                 // The pawn to be captured is in the same column as the destination, but same row as this pawn
                 Piece possiblePawn = chessBoard.getPiece(col, this.row);
                 return possiblePawn != null &&
-                        possiblePawn.name.equals("Pawn") &&
-                        !chessBoard.sameTeam(this, possiblePawn) &&
-                        ((Pawn)possiblePawn).justMovedTwoSquares;
+                        possiblePawn.type == PieceType.PAWN &&
+                        !chessBoard.sameTeam(this, possiblePawn);
             }
         }
 
         return false;
     }
 
-    // Track if this pawn just made a two-square move (for en passant logic)
-    public boolean justMovedTwoSquares = false;
-
     @Override
     public boolean moveCollidesWithPiece(int col, int row) {
         // Collision detection for pawns is handled in isValidMovement
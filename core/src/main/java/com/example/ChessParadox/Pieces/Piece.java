@@ -0,0 +1,59 @@
+package com.example.ChessParadox.Pieces;
+
+import com.example.ChessParadox.Classic.Chessboard;
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.PieceType;
+
+/**
+ * A chess piece on a Chessboard, holding only rules state; views decide how it is drawn
+ */
+public abstract class Piece {
+    public int col, row;
+
+    public boolean isWhite;
+
+    // Piece type from PieceType, used by every rules path; the name is only for display and sprite naming
+    public final int type;
+    public String name;
+    public boolean isFirstMove = true;
+    public boolean hasMoved;
+
+    protected Chessboard chessBoard;
+
+    // Movement pattern shared by every piece of this type, null for pawns
+    protected final PieceRules rules;
+
+    public Piece(Chessboard chessBoard, int col, int row, boolean isWhite, int type) {
+        this.chessBoard = chessBoard;
+        this.col = col;
+        this.row = row;
+        this.isWhite = isWhite;
+        this.type = type;
+        this.rules = PieceRules.of(type);
+    }
+
+    /**
+     * Get the piece code (type and colour) used by the bitboard position
+     */
+    public int code() {
+        return PieceType.code(type, isWhite);
+    }
+
+    /**
+     * Check if the piece can move to the target position according to its movement pattern
+     */
+    public boolean isValidMovement(int col, int row) {
+        if (col < 0 || col > 7 || row < 0 || row > 7) {
+            return false;
+        }
+        return rules.canReach(BoardState.square(this.col, this.row), BoardState.square(col, row));
+    }
+
+    /**
+     * Check if the piece's path to the target position is obstructed by other pieces
+     */
+    public boolean moveCollidesWithPiece(int col, int row) {
+        return rules.isBlocked(BoardState.square(this.col, this.row), BoardState.square(col, row),
+                chessBoard.position.occupied);
+    }
+}
\ No newline at end of file
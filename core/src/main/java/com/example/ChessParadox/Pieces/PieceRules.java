@@ -0,0 +1,64 @@
+package com.example.ChessParadox.Pieces;
+
+import com.example.ChessParadox.Engine.Attacks;
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.PieceType;
+
+/**
+ * Movement pattern of one piece type, shared by every piece of that type.
+ * Rules hold no state: where a piece can go comes from the precomputed Attacks tables and
+ * whether its path is clear from the board's occupancy, so checking a move never walks the board.
+ */
+public final class PieceRules {
+    // One instance per piece type; pawns depend on colour, en passant and their first move, so have none
+    private static final PieceRules[] BY_TYPE = new PieceRules[PieceType.KING + 1];
+
+    static {
+        long[] diagonal = new long[64];
+        long[] straight = new long[64];
+        long[] both = new long[64];
+        for (int sq = 0; sq < 64; sq++) {
+            diagonal[sq] = Attacks.bishopAttacks(sq, 0L);
+            straight[sq] = Attacks.rookAttacks(sq, 0L);
+            both[sq] = diagonal[sq] | straight[sq];
+        }
+
+        BY_TYPE[PieceType.KNIGHT] = new PieceRules(Attacks.KNIGHT, false);
+        BY_TYPE[PieceType.BISHOP] = new PieceRules(diagonal, true);
+        BY_TYPE[PieceType.ROOK] = new PieceRules(straight, true);
+        BY_TYPE[PieceType.QUEEN] = new PieceRules(both, true);
+        BY_TYPE[PieceType.KING] = new PieceRules(Attacks.KING, false);
+    }
+
+    // Squares reachable from each square on an empty board
+    private final long[] targets;
+
+    // Whether pieces standing in between block the move
+    private final boolean slides;
+
+    private PieceRules(long[] targets, boolean slides) {
+        this.targets = targets;
+        this.slides = slides;
+    }
+
+    /**
+     * Get the rules of a piece type, or null for pawns and empty squares
+     */
+    public static PieceRules of(int type) {
+        return BY_TYPE[type];
+    }
+
+    /**
+     * Check if the pattern leads from one square to another on an empty board
+     */
+    public boolean canReach(int from, int to) {
+        return (targets[from] & BoardState.bit(to)) != 0L;
+    }
+
+    /**
+     * Check if a piece stands strictly between the two squares
+     */
+    public boolean isBlocked(int from, int to, long occupied) {
+        return slides && (Attacks.BETWEEN[from][to] & occupied) != 0L;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.ChessParadox.Pieces;
+
+import com.example.ChessParadox.Classic.Chessboard;
+import com.example.ChessParadox.Engine.PieceType;
+
+public class Queen extends Piece {
+    public Queen(Chessboard chessBoard, int col, int row, boolean isWhite) {
+        super(chessBoard, col, row, isWhite, PieceType.QUEEN);
+        this.name = "Queen";
+    }
+}
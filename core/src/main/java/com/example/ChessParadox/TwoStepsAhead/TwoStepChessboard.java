@@ -1,12 +1,7 @@
 package com.example.ChessParadox.TwoStepsAhead;
 
-import com.example.ChessParadox.Classic.CapturedPiecesView;
-import com.example.ChessParadox.Classic.CheckScanner;
 import com.example.ChessParadox.Classic.Chessboard;
-import com.example.ChessParadox.Classic.Chessboardview;
 import com.example.ChessParadox.Classic.Move;
-import com.example.ChessParadox.Pieces.King;
-import com.example.ChessParadox.Pieces.Pawn;
 import com.example.ChessParadox.Pieces.Piece;
 
 /**
@@ -15,6 +10,10 @@ import com.example.ChessParadox.Pieces.Piece;
  */
 public class TwoStepChessboard extends Chessboard {
 
+    public interface OnTurnChangeListener {
+        void onTurnChanged(boolean isWhiteTurn, boolean isFirstMove);
+    }
+
     // Track turn state
     private boolean isFirstMove = true;
     private boolean isWhiteTurn = true;
@@ -22,12 +21,20 @@ public class TwoStepChessboard extends Chessboard {
     // Track the piece moved in the first move
     private Piece firstMovePiece = null;
 
-    // Reference to the view for UI updates
-    private TwoStepChessboardView twoStepView;
+    // Notified whenever the turn state changes, e.g. by the view
+    private OnTurnChangeListener turnListener;
+
+    /**
+     * Set the listener notified when the turn state changes
+     */
+    public void setOnTurnChangeListener(OnTurnChangeListener listener) {
+        this.turnListener = listener;
+    }
 
-    public TwoStepChessboard(TwoStepChessboardView view) {
-        super(view);
-        this.twoStepView = view;
+    private void notifyTurnChanged() {
+        if (turnListener != null) {
+            turnListener.onTurnChanged(isWhiteTurn, isFirstMove);
+        }
     }
 
     /**
@@ -89,6 +96,17 @@ public class TwoStepChessboard extends Chessboard {
         return true;
     }
 
+    /**
+     * Get the tiles a piece can move to, honouring turn order and the no-repeat rule
+     */
+    @Override
+    public long getLegalTargets(Piece piece) {
+        if (piece == null || piece.isWhite != isWhiteTurn || (!isFirstMove && piece == firstMovePiece)) {
+            return 0L;
+        }
+        return super.getLegalTargets(piece);
+    }
+
     /**
      * Make a move on the board
      */
@@ -105,20 +123,16 @@ public class TwoStepChessboard extends Chessboard {
             // Switch to second move state
             isFirstMove = false;
 
-            // Update the UI to show it's the second move
-            if (twoStepView != null && twoStepView.getContext() != null) {
-                twoStepView.updateTurnState(isWhiteTurn, isFirstMove);
-            }
+            // Let the UI show it's the second move
+            notifyTurnChanged();
         } else {
             // After second move, switch to the other player
             isFirstMove = true;
             isWhiteTurn = !isWhiteTurn;
             firstMovePiece = null;
 
-            // Update the UI to show it's the next player's turn
-            if (twoStepView != null && twoStepView.getContext() != null) {
-                twoStepView.updateTurnState(isWhiteTurn, isFirstMove);
-            }
+            // Let the UI show it's the next player's turn
+            notifyTurnChanged();
         }
     }
 
@@ -126,33 +140,13 @@ public class TwoStepChessboard extends Chessboard {
      * Check if a king is in checkmate
      */
     public boolean isKingInCheckmate(boolean isWhiteKing) {
-        Piece king = findKing(isWhiteKing);
-        if (king != null) {
-            Move dummyMove = new Move(this, king, king.col, king.row);
-
-            // Check if king is in check
-            CheckScanner checkScanner = getCheckScanner();
-            if (!checkScanner.isKingInCheck(dummyMove)) {
-                return false;
-            }
-
-            // Check if any move can get the king out of check
-            for (Piece piece : pieceList) {
-                if (piece.isWhite == isWhiteKing) {
-                    for (int col = 0; col < 8; col++) {
-                        for (int row = 0; row < 8; row++) {
-                            Move move = new Move(this, piece, col, row);
-                            if (super.isValidMove(move)) {
-                                return false;
-                            }
-                        }
-                    }
-                }
-            }
-
-            return true;
+        // Check if king is in check
+        if (!getCheckScanner().isKingInCheck(isWhiteKing)) {
+            return false;
         }
-        return false;
+
+        // Check if any move can get the king out of check
+        return !hasLegalMove(isWhiteKing);
     }
 
     /**
@@ -168,8 +162,6 @@ public class TwoStepChessboard extends Chessboard {
         firstMovePiece = null;
 
         // Update the UI
-        if (twoStepView != null && twoStepView.getContext() != null) {
-            twoStepView.updateTurnState(isWhiteTurn, isFirstMove);
-        }
+        notifyTurnChanged();
     }
 }
\ No newline at end of file
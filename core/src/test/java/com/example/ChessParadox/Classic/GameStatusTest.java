@@ -0,0 +1,131 @@
+package com.example.ChessParadox.Classic;
+
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.MoveList;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GameStatusTest {
+
+    private static Chessboard board(String fen) {
+        Chessboard board = new Chessboard();
+        board.loadFen(fen);
+        board.initCheckScanner();
+        return board;
+    }
+
+    private static void play(Chessboard board, int fromCol, int fromRow, int toCol, int toRow) {
+        Move move = new Move(board.getPiece(fromCol, fromRow), toCol, toRow);
+        assertTrue(board.isValidMove(move));
+        board.makeMove(move);
+    }
+
+    @Test
+    public void threefoldRepetition() {
+        Chessboard board = board(BoardState.START_FEN);
+        for (int cycle = 0; cycle < 2; cycle++) {
+            assertEquals(GameStatus.ONGOING, board.getCheckScanner().getGameStatus(true));
+            play(board, 6, 7, 5, 5); // Ng1-f3
+            play(board, 6, 0, 5, 2); // Ng8-f6
+            play(board, 5, 5, 6, 7); // Nf3-g1
+            play(board, 5, 2, 6, 0); // Nf6-g8
+        }
+        assertEquals(3, board.position.repetitionCount());
+        assertEquals(GameStatus.DRAW_BY_REPETITION, board.getCheckScanner().getGameStatus(true));
+    }
+
+    @Test
+    public void repetitionCountsThePromotedPosition() {
+        // Without a listener the board promotes to a queen right after the pawn move
+        Chessboard board = board("8/4P3/8/8/8/8/k7/7K w - - 0 1");
+        play(board, 4, 1, 4, 0);
+        assertEquals(board.position.computeHash(), board.position.hash);
+        for (int cycle = 0; cycle < 2; cycle++) {
+            play(board, 0, 6, 1, 6); // Ka2-b2
+            play(board, 7, 7, 6, 7); // Kh1-g1
+            play(board, 1, 6, 0, 6); // Kb2-a2
+            play(board, 6, 7, 7, 7); // Kg1-h1
+        }
+        assertEquals(3, board.position.repetitionCount());
+
+        // Taking the promotion back brings the pawn back
+        for (int ply = 0; ply < 9; ply++) {
+            board.position.unmakeMove();
+        }
+        assertEquals("8/4P3/8/8/8/8/k7/7K w - - 0 1", board.position.toFen());
+    }
+
+    @Test
+    public void copiedPositionKeepsItsStatus() {
+        Chessboard board = board(BoardState.START_FEN);
+        for (int cycle = 0; cycle < 2; cycle++) {
+            play(board, 6, 7, 5, 5);
+            play(board, 6, 0, 5, 2);
+            play(board, 5, 5, 6, 7);
+            play(board, 5, 2, 6, 0);
+        }
+        BoardState copy = new BoardState(board.position);
+
+        // The board moving on does not change what the copy says
+        play(board, 4, 6, 4, 4);
+        assertEquals(GameStatus.ONGOING, board.getCheckScanner().getGameStatus(false));
+        assertEquals(GameStatus.DRAW_BY_REPETITION, CheckScanner.getGameStatus(copy, true, new MoveList()));
+
+        Chessboard mate = board("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        play(mate, 0, 7, 0, 0);
+        copy.copyFrom(mate.position);
+        assertEquals(GameStatus.CHECKMATE, CheckScanner.getGameStatus(copy, false, new MoveList()));
+    }
+
+    @Test
+    public void fiftyMoveRule() {
+        Chessboard board = board("4k3/8/8/8/8/8/8/R3K3 w - - 99 80");
+        play(board, 0, 7, 0, 6);
+        assertEquals(100, board.position.halfmoveClock);
+        assertEquals(GameStatus.DRAW_BY_FIFTY_MOVES, board.getCheckScanner().getGameStatus(false));
+
+        // A pawn move or capture restarts the count
+        board = board("4k3/8/8/8/8/8/4P3/R3K3 w - - 99 80");
+        play(board, 4, 6, 4, 5);
+        assertEquals(0, board.position.halfmoveClock);
+        assertEquals(GameStatus.ONGOING, board.getCheckScanner().getGameStatus(false));
+    }
+
+    @Test
+    public void checkmateOutranksFiftyMoveRule() {
+        Chessboard board = board("6k1/5ppp/8/8/8/8/8/R5K1 w - - 99 60");
+        play(board, 0, 7, 0, 0);
+        assertEquals(GameStatus.CHECKMATE, board.getCheckScanner().getGameStatus(false));
+    }
+
+    @Test
+    public void insufficientMaterial() {
+        assertDrawnByMaterial(true, "4k3/8/8/8/8/8/8/4K3 w - - 0 1");
+        assertDrawnByMaterial(true, "4k3/8/8/8/8/8/8/2B1K3 w - - 0 1");
+        assertDrawnByMaterial(true, "4k3/8/8/8/8/8/8/1N2K3 w - - 0 1");
+        // Bishops on the same square colour
+        assertDrawnByMaterial(true, "2b1k3/8/8/8/8/8/8/4KB2 w - - 0 1");
+        // Bishops on opposite colours, two knights, or any pawn can still mate
+        assertDrawnByMaterial(false, "2b1k3/8/8/8/8/8/8/2B1K3 w - - 0 1");
+        assertDrawnByMaterial(false, "4k3/8/8/8/8/8/8/1NN1K3 w - - 0 1");
+        assertDrawnByMaterial(false, "4k3/8/8/8/8/8/4P3/4K3 w - - 0 1");
+    }
+
+    private static void assertDrawnByMaterial(boolean drawn, String fen) {
+        GameStatus status = board(fen).getCheckScanner().getGameStatus(true);
+        assertEquals(fen, drawn ? GameStatus.DRAW_BY_INSUFFICIENT_MATERIAL : GameStatus.ONGOING, status);
+    }
+
+    @Test
+    public void stalemate() {
+        Chessboard board = board("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1");
+        GameStatus status = board.getCheckScanner().getGameStatus(false);
+        assertEquals(GameStatus.STALEMATE, status);
+        assertTrue(status.isDraw());
+        assertFalse(GameStatus.CHECKMATE.isDraw());
+    }
+}
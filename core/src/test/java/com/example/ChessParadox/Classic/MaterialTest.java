@@ -0,0 +1,83 @@
+package com.example.ChessParadox.Classic;
+
+import com.example.ChessParadox.Engine.BoardState;
+import com.example.ChessParadox.Engine.MoveGenerator;
+import com.example.ChessParadox.Engine.MoveList;
+import com.example.ChessParadox.Engine.PieceType;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The running material balance and capture counters must match the pieces on the board
+ */
+public class MaterialTest {
+
+    private static int countMaterial(BoardState state) {
+        int material = 0;
+        for (int sq = 0; sq < 64; sq++) {
+            if (state.pieceAt(sq) != PieceType.NONE) {
+                material += PieceType.signedValue(state.pieceAt(sq));
+            }
+        }
+        return material;
+    }
+
+    @Test
+    public void balanceFollowsMakeAndUnmake() {
+        BoardState state = new BoardState();
+        // Captures, promotions with and without capture, and en passant in two plies
+        state.loadFen("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1");
+        MoveList first = new MoveList();
+        MoveList second = new MoveList();
+        int root = state.material;
+        assertEquals(countMaterial(state), root);
+
+        MoveGenerator.generateLegal(state, first);
+        for (int i = 0; i < first.size(); i++) {
+            state.makeMove(first.get(i));
+            assertEquals(countMaterial(state), state.material);
+
+            MoveGenerator.generateLegal(state, second);
+            for (int j = 0; j < second.size(); j++) {
+                state.makeMove(second.get(j));
+                assertEquals(countMaterial(state), state.material);
+                state.unmakeMove();
+            }
+            state.unmakeMove();
+        }
+        assertEquals(root, state.material);
+    }
+
+    @Test
+    public void chessboardCountsCaptures() {
+        Chessboard board = new Chessboard();
+        board.loadFen("3qk3/1P6/8/3pP3/8/8/8/4K3 w - d6 0 1");
+        assertEquals(200 - 1000, board.getMaterialBalance());
+
+        play(board, 4, 3, 3, 2); // e5xd6 en passant
+        assertEquals(1, board.getCapturedCount(PieceType.PAWN, false));
+        assertEquals(200 - 900, board.getMaterialBalance());
+
+        play(board, 3, 0, 3, 2); // Qd8xd6
+        assertEquals(1, board.getCapturedCount(PieceType.PAWN, true));
+        assertEquals(100 - 900, board.getMaterialBalance());
+
+        play(board, 1, 1, 1, 0); // b7-b8, promoting to a queen
+        assertEquals(900 - 900, board.getMaterialBalance());
+        assertEquals(countMaterial(board.position), board.getMaterialBalance());
+
+        // Setting up a new position starts counting again
+        board.loadFen(BoardState.START_FEN);
+        assertEquals(0, board.getCapturedCount(PieceType.PAWN, false));
+        assertEquals(0, board.getMaterialBalance());
+    }
+
+    private static void play(Chessboard board, int fromCol, int fromRow, int toCol, int toRow) {
+        Move move = new Move(board.getPiece(fromCol, fromRow), toCol, toRow);
+        assertTrue(board.isValidMove(move));
+        board.makeMove(move);
+    }
+}
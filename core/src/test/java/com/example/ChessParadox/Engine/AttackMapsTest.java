@@ -0,0 +1,123 @@
+package com.example.ChessParadox.Engine;
+
+import com.example.ChessParadox.Classic.CheckScanner;
+import com.example.ChessParadox.Classic.Chessboard;
+import com.example.ChessParadox.Classic.Move;
+import com.example.ChessParadox.Pieces.Piece;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The cached attack maps must agree with square-by-square attack tests
+ */
+public class AttackMapsTest {
+    private static final String[] FENS = {
+            BoardState.START_FEN,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+    };
+
+    @Test
+    public void mapsMatchAttackTests() {
+        BoardState state = new BoardState();
+        AttackMaps maps = new AttackMaps();
+        MoveList[] lists = {new MoveList(), new MoveList(), new MoveList()};
+        for (String fen : FENS) {
+            state.loadFen(fen);
+            walk(state, maps, lists, 2);
+        }
+    }
+
+    private static void walk(BoardState state, AttackMaps maps, MoveList[] lists, int depth) {
+        maps.compute(state);
+        for (int color = 0; color < 2; color++) {
+            boolean isWhite = color == PieceType.WHITE_INDEX;
+            String fen = state.toFen();
+
+            long attacked = 0L;
+            for (int sq = 0; sq < 64; sq++) {
+                if (state.isSquareAttacked(sq, isWhite)) {
+                    attacked |= BoardState.bit(sq);
+                }
+            }
+            assertEquals(fen, attacked, maps.attacked(isWhite));
+            assertEquals(fen, state.isKingAttacked(isWhite), maps.checkers(isWhite) != 0L);
+            assertEquals(fen, slowPinned(state, isWhite), maps.pinned(isWhite));
+        }
+        if (depth == 0) {
+            return;
+        }
+        MoveList moves = lists[depth];
+        MoveGenerator.generateLegal(state, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            state.makeMove(moves.get(i));
+            walk(state, maps, lists, depth - 1);
+            state.unmakeMove();
+        }
+    }
+
+    /**
+     * A piece is pinned when lifting it lets an enemy slider onto its king
+     */
+    private static long slowPinned(BoardState state, boolean isWhite) {
+        int king = state.kingSquare(isWhite);
+        long sliders = state.pieces(PieceType.BISHOP, !isWhite) | state.pieces(PieceType.ROOK, !isWhite)
+                | state.pieces(PieceType.QUEEN, !isWhite);
+        long before = state.attackersOf(king, !isWhite, state.occupied) & sliders;
+
+        long pinned = 0L;
+        long own = state.colorPieces(isWhite) & ~BoardState.bit(king);
+        while (own != 0L) {
+            long piece = own & -own;
+            own &= own - 1;
+            long after = state.attackersOf(king, !isWhite, state.occupied & ~piece) & sliders;
+            if ((after & ~before) != 0L) {
+                pinned |= piece;
+            }
+        }
+        return pinned;
+    }
+
+    @Test
+    public void scannerAgreesWithMakeUnmake() {
+        for (String fen : FENS) {
+            Chessboard board = new Chessboard();
+            board.loadFen(fen);
+            CheckScanner scanner = board.getCheckScanner();
+            boolean side = board.position.whiteToMove;
+
+            for (Piece piece : board.pieceList) {
+                if (piece.isWhite != side) {
+                    continue;
+                }
+                for (int to = 0; to < 64; to++) {
+                    Move move = new Move(piece, to % 8, to / 8);
+                    if (board.sameTeam(piece, board.getPiece(move.newCol, move.newRow))
+                            || !piece.isValidMovement(move.newCol, move.newRow)
+                            || piece.moveCollidesWithPiece(move.newCol, move.newRow)) {
+                        continue;
+                    }
+                    assertEquals(fen + " " + piece.name + " to " + to,
+                            slowInCheck(board.position, piece, to), scanner.isKingInCheck(move));
+                }
+            }
+
+            // Trying moves leaves the position, and so the cached maps, as they were
+            assertTrue(scanner.getAttackMaps().isFor(board.position));
+            assertEquals(board.position.isKingAttacked(side), scanner.isKingInCheck(side));
+        }
+    }
+
+    private static boolean slowInCheck(BoardState state, Piece piece, int to) {
+        int from = BoardState.square(piece.col, piece.row);
+        state.makeMove(MoveGenerator.encode(from, to, MoveGenerator.FLAG_NORMAL, PieceType.NONE));
+        boolean inCheck = state.isKingAttacked(piece.isWhite);
+        state.unmakeMove();
+        return inCheck;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.ChessParadox.Engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelSearchTest {
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    @Test
+    public void helpersFindTheSameMate() {
+        BoardState state = new BoardState();
+        state.loadFen("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        ParallelSearch search = new ParallelSearch(new TranspositionTable(1), 4);
+        try {
+            int move = search.findBestMove(state, 4, 3, Long.MAX_VALUE, 60_000);
+            assertEquals(BoardState.square(0, 0), MoveGenerator.to(move));
+            assertEquals("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1", state.toFen());
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    public void timeToDepth() {
+        for (int threads = 1; threads <= 4; threads *= 2) {
+            BoardState state = new BoardState();
+            state.loadFen(KIWIPETE);
+            ParallelSearch search = new ParallelSearch(new TranspositionTable(16), threads);
+            try {
+                long start = System.nanoTime();
+                int move = search.findBestMove(state, threads, 5, Long.MAX_VALUE, 60_000);
+                long elapsed = System.nanoTime() - start;
+
+                assertTrue(move != 0);
+                assertEquals(5, search.completedDepth());
+                assertEquals(KIWIPETE, state.toFen());
+                System.out.printf("parallel search depth 5 with %d threads: %.1f ms, %d nodes, %d in the main search%n",
+                        threads, elapsed / 1e6, search.nodes(), search.mainNodes());
+            } finally {
+                search.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void stopBeforeStartIsKept() {
+        BoardState state = new BoardState();
+        state.loadFen(KIWIPETE);
+        ParallelSearch search = new ParallelSearch(new TranspositionTable(1), 2);
+        try {
+            int ticket = search.newTicket();
+            search.stop();
+            search.findBestMove(ticket, state, 2, Search.MAX_DEPTH, Long.MAX_VALUE, 60_000);
+            assertEquals(0, search.completedDepth());
+
+            // A later request is not affected
+            search.findBestMove(state, 2, 3, Long.MAX_VALUE, 60_000);
+            assertEquals(3, search.completedDepth());
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    public void searchesAgainAfterShutdown() {
+        BoardState state = new BoardState();
+        state.loadFen(KIWIPETE);
+        ParallelSearch search = new ParallelSearch(new TranspositionTable(1), 2);
+        search.shutdown();
+        assertTrue(search.findBestMove(state, 2, 3, Long.MAX_VALUE, 60_000) != 0);
+        search.shutdown();
+    }
+
+    @Test
+    public void threadCountStaysInBounds() {
+        assertEquals(1, ParallelSearch.threadCount(1, 8));
+        assertEquals(2, ParallelSearch.threadCount(8, 2));
+        assertEquals(ParallelSearch.MAX_THREADS, ParallelSearch.threadCount(32, 32));
+        assertEquals(1, ParallelSearch.threadCount(4, 0));
+    }
+}
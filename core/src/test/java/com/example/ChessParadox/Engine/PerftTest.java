@@ -0,0 +1,153 @@
+package com.example.ChessParadox.Engine;
+
+import com.example.ChessParadox.Classic.Chessboard;
+import com.example.ChessParadox.Classic.Move;
+import com.example.ChessParadox.Pieces.Piece;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Perft node counts of standard test positions, checked against published values.
+ * Each run prints the node rate so engine throughput can be compared between commits.
+ */
+public class PerftTest {
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    private static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+    private static final String POSITION_4 = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+    private static final String POSITION_5 = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+
+    @Test
+    public void startPosition() {
+        assertPerft("start", BoardState.START_FEN, 20, 400, 8902, 197281, 4865609);
+    }
+
+    @Test
+    public void kiwipete() {
+        assertPerft("kiwipete", KIWIPETE, 48, 2039, 97862, 4085603, 193690690);
+    }
+
+    @Test
+    public void enPassantAndPins() {
+        assertPerft("position 3", POSITION_3, 14, 191, 2812, 43238, 674624);
+    }
+
+    @Test
+    public void promotionsAndCastling() {
+        assertPerft("position 4", POSITION_4, 6, 264, 9467, 422333, 15833292);
+    }
+
+    @Test
+    public void underpromotionAndDiscoveredCheck() {
+        assertPerft("position 5", POSITION_5, 44, 1486, 62379, 2103487, 89941194);
+    }
+
+    @Test
+    public void enPassantEdgeCases() {
+        // Counts for these small endgames are published at depth 6
+        // Capturing en passant would expose the own king
+        assertPerftAt("ep pin", "8/8/1k6/2b5/2pP4/8/5K2/8 b - d3 0 1", 6, 1440467);
+        assertPerftAt("ep into check", "8/5bk1/8/2Pp4/8/1K6/8/8 w - d6 0 1", 6, 824064);
+        // A double push that gives a discovered check along the rank
+        assertPerftAt("ep discovered check", "3k4/3p4/8/K1P4r/8/8/8/8 b - - 0 1", 6, 1134888);
+    }
+
+    @Test
+    public void promotionEdgeCases() {
+        assertPerftAt("promotion", "4k3/1P6/8/8/8/8/K7/8 w - - 0 1", 6, 217342);
+        assertPerftAt("promotion out of check", "2K2r2/4P3/8/8/8/8/8/3k4 w - - 0 1", 6, 3821001);
+        assertPerftAt("self stalemate", "8/8/1P2K3/8/2n5/1q6/8/5k2 b - - 0 1", 5, 1004658);
+    }
+
+    /**
+     * The Classic rules must allow exactly the moves the generator produces, and playing a move
+     * through the Chessboard must reach the same position as the engine
+     */
+    @Test
+    public void chessboardAgreesWithGenerator() {
+        String[] fens = {BoardState.START_FEN, KIWIPETE, POSITION_3, POSITION_4, POSITION_5,
+                // Pins, en passant along a pinned rank, double check and check evasions
+                "8/8/1k6/2b5/2pP4/8/5K2/8 b - d3 0 1",
+                "8/5bk1/8/2Pp4/8/1K6/8/8 w - d6 0 1",
+                "8/8/8/K2pP2r/8/8/8/7k w - d6 0 1",
+                "4k3/8/8/8/1b6/8/3N4/r3K2R w K - 0 1",
+                "4k3/8/8/8/8/3n4/8/r3K3 w - - 0 1"};
+        BoardState state = new BoardState();
+        MoveList moves = new MoveList();
+
+        for (String fen : fens) {
+            state.loadFen(fen);
+            assertEquals(fen, state.toFen().split(" ")[0], fen.split(" ")[0]);
+            assertValidMovesAgree(state);
+
+            MoveGenerator.generateLegal(state, moves);
+            for (int i = 0; i < moves.size(); i++) {
+                int move = moves.get(i);
+                int promotion = MoveGenerator.promotion(move);
+                if (promotion != PieceType.NONE && promotion != PieceType.QUEEN) {
+                    // Without a view the Chessboard always promotes to a queen
+                    continue;
+                }
+
+                Chessboard board = new Chessboard();
+                board.loadFen(state.toFen());
+                Move wrapped = Move.fromEncoded(board, move);
+                if (promotion == PieceType.NONE) {
+                    // The UI move packs back into the generated move, piece and capture included
+                    assertEquals(fen, move, wrapped.encode(board.position));
+                }
+                board.makeMove(wrapped);
+
+                state.makeMove(move);
+                assertEquals(fen, state.toFen(), board.position.toFen());
+                assertValidMovesAgree(state);
+                state.unmakeMove();
+            }
+        }
+    }
+
+    private static void assertValidMovesAgree(BoardState state) {
+        Chessboard board = new Chessboard();
+        board.loadFen(state.toFen());
+        String fen = state.toFen();
+
+        for (Piece piece : new ArrayList<>(board.pieceList)) {
+            long legal = board.getLegalTargets(piece);
+            for (int square = 0; square < 64; square++) {
+                boolean valid = board.isValidMove(new Move(piece, square & 7, square >>> 3));
+                boolean generated = (legal & BoardState.bit(square)) != 0L;
+                assertEquals(fen + " " + piece.name + " to " + square, generated, valid);
+            }
+        }
+    }
+
+    private static void assertPerftAt(String name, String fen, int depth, long expected) {
+        BoardState state = new BoardState();
+        state.loadFen(fen);
+        assertEquals(name + " depth " + depth, expected, timedPerft(new Perft(depth), state, name, depth));
+    }
+
+    private static void assertPerft(String name, String fen, long... expected) {
+        BoardState state = new BoardState();
+        state.loadFen(fen);
+        Perft perft = new Perft(expected.length);
+
+        for (int depth = 1; depth <= expected.length; depth++) {
+            long nodes = timedPerft(perft, state, name, depth);
+            assertEquals(name + " depth " + depth, expected[depth - 1], nodes);
+            assertEquals(name + " position restored", fen.split(" ")[0], state.toFen().split(" ")[0]);
+        }
+    }
+
+    private static long timedPerft(Perft perft, BoardState state, String name, int depth) {
+        long start = System.nanoTime();
+        long nodes = perft.count(state, depth);
+        long elapsed = Math.max(1, System.nanoTime() - start);
+
+        System.out.printf("perft %s depth %d: %d nodes, %.0f nodes/s%n", name, depth, nodes, nodes * 1e9 / elapsed);
+        return nodes;
+    }
+}
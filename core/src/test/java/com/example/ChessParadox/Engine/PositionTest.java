@@ -0,0 +1,132 @@
+package com.example.ChessParadox.Engine;
+
+import com.example.ChessParadox.Classic.Chessboard;
+import com.example.ChessParadox.Classic.Move;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Copy-make on snapshots must reach the same positions as make/unmake on a BoardState
+ */
+public class PositionTest {
+    private static final String[] FENS = {
+            BoardState.START_FEN,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+    };
+
+    @Test
+    public void playMatchesMakeMove() {
+        BoardState state = new BoardState();
+        MoveList[] lists = {new MoveList(), new MoveList(), new MoveList(), new MoveList()};
+        for (String fen : FENS) {
+            state.loadFen(fen);
+            walk(state, Position.of(state), lists, 3);
+        }
+    }
+
+    private static void walk(BoardState state, Position position, MoveList[] lists, int depth) {
+        String fen = state.toFen();
+        assertEquals(fen, Position.of(state), position);
+        assertEquals(fen, state.hash, position.hash);
+        for (int sq = 0; sq < 64; sq++) {
+            assertEquals(fen, state.pieceAt(sq), position.pieceAt(sq));
+        }
+        if (depth == 0) {
+            return;
+        }
+
+        MoveList moves = lists[depth];
+        MoveGenerator.generateLegal(state, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            Position next = position.play(move);
+            state.makeMove(move);
+            walk(state, next, lists, depth - 1);
+            state.unmakeMove();
+        }
+        // Playing moves never touched the snapshot
+        assertEquals(fen, Position.of(state), position);
+    }
+
+    @Test
+    public void boardStateLoadsSnapshot() {
+        BoardState state = new BoardState();
+        BoardState copy = new BoardState();
+        for (String fen : FENS) {
+            state.loadFen(fen);
+            copy.copyFrom(Position.of(state));
+            // Snapshots do not keep the move number
+            assertEquals(fen.substring(0, fen.lastIndexOf(' ')), copy.toFen().substring(0, copy.toFen().lastIndexOf(' ')));
+            assertEquals(fen, state.hash, copy.hash);
+        }
+    }
+
+    @Test
+    public void snapshotKeepsRepetitions() {
+        BoardState state = new BoardState();
+        state.loadFen(BoardState.START_FEN);
+        Position position = Position.of(state);
+
+        // Twice out and back with the knights: the start position is on the board for the third time
+        int[][] shuffle = {{6, 7, 5, 5}, {6, 0, 5, 2}, {5, 5, 6, 7}, {5, 2, 6, 0}};
+        for (int cycle = 0; cycle < 2; cycle++) {
+            for (int[] squares : shuffle) {
+                int move = MoveGenerator.createMove(state, BoardState.square(squares[0], squares[1]),
+                        BoardState.square(squares[2], squares[3]), PieceType.NONE);
+                state.makeMove(move);
+                position = position.play(move);
+            }
+        }
+        assertEquals(3, state.repetitionCount());
+
+        BoardState copy = new BoardState();
+        copy.copyFrom(position);
+        assertEquals(3, copy.repetitionCount());
+        copy.copyFrom(Position.of(state));
+        assertEquals(3, copy.repetitionCount());
+
+        // A pawn move starts the history afresh
+        int pawnMove = MoveGenerator.createMove(state, BoardState.square(4, 6), BoardState.square(4, 4), PieceType.NONE);
+        copy.copyFrom(position.play(pawnMove));
+        assertEquals(1, copy.repetitionCount());
+    }
+
+    @Test
+    public void chessboardPublishesSnapshots() {
+        Chessboard board = new Chessboard();
+        board.loadFen(BoardState.START_FEN);
+        Position before = board.getSnapshot();
+
+        board.makeMove(new Move(board.getPiece(4, 6), 4, 4));
+        Position after = board.getSnapshot();
+
+        assertNotEquals(before, after);
+        assertEquals(Position.of(board.position), after);
+        assertEquals(PieceType.code(PieceType.PAWN, true), before.pieceAt(BoardState.square(4, 6)));
+        assertEquals(PieceType.NONE, before.pieceAt(BoardState.square(4, 4)));
+    }
+
+    @Test
+    public void chessboardSnapshotKeepsRepetitions() {
+        Chessboard board = new Chessboard();
+        board.loadFen(BoardState.START_FEN);
+
+        int[][] shuffle = {{6, 7, 5, 5}, {6, 0, 5, 2}, {5, 5, 6, 7}, {5, 2, 6, 0}};
+        for (int cycle = 0; cycle < 2; cycle++) {
+            for (int[] squares : shuffle) {
+                board.makeMove(new Move(board.getPiece(squares[0], squares[1]), squares[2], squares[3]));
+            }
+        }
+
+        BoardState copy = new BoardState();
+        copy.copyFrom(board.getSnapshot());
+        assertEquals(3, copy.repetitionCount());
+        assertEquals(board.position.hash, copy.hash);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.ChessParadox.Engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The search must find forced wins within its budget and leave the position as it found it.
+ * Each run prints the node rate so search throughput can be compared between commits.
+ */
+public class SearchTest {
+
+    private static int search(String fen, int depth) {
+        BoardState state = new BoardState();
+        state.loadFen(fen);
+        Search search = new Search();
+        int move = search.findBestMove(state, depth, Long.MAX_VALUE, 60_000);
+        assertEquals(fen, state.toFen());
+        return move;
+    }
+
+    @Test
+    public void findsMateInOne() {
+        // Ra1-a8 mates behind the pawns
+        int move = search("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1", 3);
+        assertEquals(BoardState.square(0, 7), MoveGenerator.from(move));
+        assertEquals(BoardState.square(0, 0), MoveGenerator.to(move));
+    }
+
+    @Test
+    public void takesHangingQueen() {
+        int move = search("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1", 3);
+        assertEquals(BoardState.square(3, 3), MoveGenerator.to(move));
+        assertEquals(PieceType.code(PieceType.QUEEN, false), MoveGenerator.captured(move));
+    }
+
+    @Test
+    public void seesRecaptureBeyondTheHorizon() {
+        // At depth 1 only the quiescence search shows dxe5 answering Qxe5
+        int move = search("6k1/8/3p4/4p3/8/8/8/4Q1K1 w - - 0 1", 1);
+        assertTrue(MoveGenerator.to(move) != BoardState.square(4, 3));
+    }
+
+    @Test
+    public void seesCapturePromotionAtTheHorizon() {
+        // Qxh5+ Kg8 bxa8=Q Qxa8 Rxa8+ wins a pawn more than bxa8=Q at once; at depth 1 the
+        // capture-promotion comes up only in the quiescence search, well short of alpha before it
+        int move = search("r2q4/1P3ppk/8/R2Q3p/8/8/5PPP/6K1 w - - 2 1", 1);
+        assertEquals(BoardState.square(7, 3), MoveGenerator.to(move));
+    }
+
+    @Test
+    public void noMoveWhenGameIsOver() {
+        // Black is checkmated
+        assertEquals(0, search("R5k1/5ppp/8/8/8/8/8/6K1 b - - 0 1", 3));
+    }
+
+    @Test
+    public void stopsAtNodeBudget() {
+        BoardState state = new BoardState();
+        state.loadFen(BoardState.START_FEN);
+        Search search = new Search();
+        int move = search.findBestMove(state, Search.MAX_DEPTH, 5_000, 60_000);
+        assertTrue(move != 0);
+        assertTrue(search.nodes() <= 5_000);
+        assertEquals(BoardState.START_FEN, state.toFen());
+    }
+
+    @Test
+    public void orderingSavesNodes() {
+        String fen = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+        long[] nodes = new long[2];
+        for (int run = 0; run < 2; run++) {
+            BoardState state = new BoardState();
+            state.loadFen(fen);
+            Search search = new Search(new TranspositionTable(16));
+            search.setMoveOrdering(run == 1);
+            search.findBestMove(state, 5, Long.MAX_VALUE, 60_000);
+            nodes[run] = search.nodes();
+        }
+        System.out.printf("search depth 5: %d nodes unordered, %d ordered%n", nodes[0], nodes[1]);
+        assertTrue(nodes[1] < nodes[0]);
+    }
+
+    @Test
+    public void nodesPerSecond() {
+        String[] fens = {BoardState.START_FEN,
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"};
+        for (String fen : fens) {
+            BoardState state = new BoardState();
+            state.loadFen(fen);
+            Search search = new Search();
+
+            long start = System.nanoTime();
+            search.findBestMove(state, 4, Long.MAX_VALUE, 60_000);
+            long elapsed = Math.max(1, System.nanoTime() - start);
+
+            assertEquals(4, search.completedDepth());
+            System.out.printf("search %s depth %d: %d nodes, %.0f nodes/s%n",
+                    fen.split(" ")[0], search.completedDepth(), search.nodes(), search.nodes() * 1e9 / elapsed);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.ChessParadox.Engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class StaticExchangeTest {
+
+    private static BoardState load(String fen) {
+        BoardState state = new BoardState();
+        state.loadFen(fen);
+        return state;
+    }
+
+    private static int see(BoardState state, String from, String to) {
+        return see(state, from, to, PieceType.NONE);
+    }
+
+    private static int see(BoardState state, String from, String to, int promotion) {
+        int move = MoveGenerator.createMove(state, square(from), square(to), promotion);
+        return StaticExchange.evaluate(state, move);
+    }
+
+    // Square of a name like "e4"
+    private static int square(String name) {
+        return BoardState.square(name.charAt(0) - 'a', '8' - name.charAt(1));
+    }
+
+    @Test
+    public void freePawnIsWon() {
+        BoardState state = load("4k3/8/8/4p3/8/8/8/4R1K1 w - - 0 1");
+        assertEquals(100, see(state, "e1", "e5"));
+        assertEquals(100, StaticExchange.threatOn(state, square("e5")));
+        assertEquals(BoardState.bit(square("e5")), StaticExchange.hangingPieces(state, false));
+        assertEquals(0L, StaticExchange.hangingPieces(state, true));
+    }
+
+    @Test
+    public void defendedPawnCostsTheRook() {
+        BoardState state = load("4k3/8/3p4/4p3/8/8/8/4R1K1 w - - 0 1");
+        assertEquals(-400, see(state, "e1", "e5"));
+        assertEquals(0, StaticExchange.threatOn(state, square("e5")));
+        assertEquals(0L, StaticExchange.hangingPieces(state, false));
+    }
+
+    @Test
+    public void rookBehindJoinsTheExchange() {
+        // Rxe5 Rxe5 Rxe5: the second white rook only sees e5 once the first has left
+        BoardState state = load("4r1k1/8/8/4p3/8/8/4R3/4R1K1 w - - 0 1");
+        assertEquals(100, see(state, "e2", "e5"));
+    }
+
+    @Test
+    public void defenderStopsWhenRecapturingLoses() {
+        // After Nxd5 the queen could take back, but exd5 would then win it
+        BoardState state = load("3qk3/8/8/3n4/4P3/2N5/8/4K3 w - - 0 1");
+        assertEquals(300, see(state, "c3", "d5"));
+    }
+
+    @Test
+    public void kingCannotTakeDefendedPiece() {
+        BoardState state = load("4k3/8/8/8/8/8/3p4/2b1K3 w - - 0 1");
+        assertEquals(0, StaticExchange.threatOn(state, square("d2")));
+        assertEquals(0L, StaticExchange.hangingPieces(state, false));
+    }
+
+    @Test
+    public void enPassantCountsThePawn() {
+        BoardState state = load("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1");
+        assertEquals(100, see(state, "e5", "d6"));
+    }
+
+    @Test
+    public void promotionCountsTheNewPiece() {
+        // bxa8=Q wins the rook and turns the pawn into a queen
+        BoardState state = load("r3k3/1P6/8/8/8/8/8/4K3 w - - 0 1");
+        assertEquals(1300, see(state, "b7", "a8", PieceType.QUEEN));
+    }
+
+    @Test
+    public void recaptureTakesThePromotedPiece() {
+        // After bxa8=Q Qxa8 white has traded the pawn for the rook
+        BoardState state = load("r2qk3/1P6/8/8/8/8/8/4K3 w - - 0 1");
+        assertEquals(400, see(state, "b7", "a8", PieceType.QUEEN));
+        // Promoting on a guarded square only gives the pawn away
+        state = load("1r2k3/P7/8/8/8/8/8/4K3 w - - 0 1");
+        assertEquals(-100, see(state, "a7", "a8", PieceType.QUEEN));
+    }
+}
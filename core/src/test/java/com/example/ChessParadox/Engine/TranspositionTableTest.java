@@ -0,0 +1,82 @@
+package com.example.ChessParadox.Engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TranspositionTableTest {
+    // Buckets in a one megabyte table; keys this far apart share a bucket
+    private static final long BUCKETS = 1024 * 1024 / 32;
+
+    @Test
+    public void storedEntryReadsBack() {
+        TranspositionTable table = new TranspositionTable(1);
+        long key = 0x1234_5678_9ABC_DEF0L;
+        int move = MoveGenerator.encode(52, 36, MoveGenerator.FLAG_DOUBLE_PUSH, PieceType.NONE,
+                PieceType.code(PieceType.PAWN, true), PieceType.NONE);
+
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(key));
+        table.store(key, move, -125, 7, TranspositionTable.LOWER, 3);
+
+        long data = table.probe(key);
+        assertEquals(move, TranspositionTable.move(data));
+        assertEquals(-125, TranspositionTable.score(data, 3));
+        assertEquals(7, TranspositionTable.depth(data));
+        assertEquals(TranspositionTable.LOWER, TranspositionTable.bound(data));
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(key ^ 1L << 40));
+    }
+
+    @Test
+    public void mateScoresFollowThePly() {
+        TranspositionTable table = new TranspositionTable(1);
+        // Mate two plies after a position reached at ply 3, seen again at ply 5
+        table.store(42L, 0, Search.MATE - 5, 4, TranspositionTable.EXACT, 3);
+        assertEquals(Search.MATE - 7, TranspositionTable.score(table.probe(42L), 5));
+
+        table.store(43L, 0, -Search.MATE + 5, 4, TranspositionTable.EXACT, 3);
+        assertEquals(-Search.MATE + 7, TranspositionTable.score(table.probe(43L), 5));
+    }
+
+    @Test
+    public void deepEntrySurvivesShallowCollisions() {
+        TranspositionTable table = new TranspositionTable(1);
+        long deep = 5L;
+        table.store(deep, 0, 10, 8, TranspositionTable.EXACT, 0);
+        for (int i = 1; i <= 3; i++) {
+            table.store(deep + i * BUCKETS, 0, 20, 2, TranspositionTable.EXACT, 0);
+        }
+        assertEquals(8, TranspositionTable.depth(table.probe(deep)));
+        // The latest shallow result sits in the always-replace slot
+        assertEquals(2, TranspositionTable.depth(table.probe(deep + 3 * BUCKETS)));
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(deep + BUCKETS));
+
+        // In a later search the old deep entry gives way
+        table.newSearch();
+        table.store(deep + BUCKETS, 0, 30, 1, TranspositionTable.EXACT, 0);
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(deep));
+    }
+
+    @Test
+    public void searchUsesTable() {
+        BoardState state = new BoardState();
+        state.loadFen("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        TranspositionTable table = new TranspositionTable(4);
+        Search search = new Search(table);
+        search.findBestMove(state, 5, Long.MAX_VALUE, 60_000);
+
+        assertTrue(table.hits() > 0);
+        assertTrue(table.fillPermille() > 0);
+        System.out.printf("table after depth 5: %d probes, %.1f%% hits, %d%% full%n",
+                table.probes(), table.hitRate() * 100, table.fillPermille() / 10);
+    }
+
+    @Test
+    public void defaultSizeFollowsMemory() {
+        assertEquals(16, TranspositionTable.defaultSizeMb(256L << 20, false));
+        assertEquals(4, TranspositionTable.defaultSizeMb(256L << 20, true));
+        assertEquals(1, TranspositionTable.defaultSizeMb(8L << 20, true));
+        assertEquals(64, TranspositionTable.defaultSizeMb(4L << 30, false));
+        assertEquals(4, new TranspositionTable(4).sizeMb());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.ChessParadox.Engine;
+
+import com.example.ChessParadox.Classic.Chessboard;
+import com.example.ChessParadox.Classic.Move;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * The incrementally updated Zobrist key must always match a key computed from scratch
+ */
+public class ZobristTest {
+    private static final String[] FENS = {
+            BoardState.START_FEN,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+    };
+
+    @Test
+    public void incrementalHashMatchesFullHash() {
+        BoardState state = new BoardState();
+        MoveList[] lists = {new MoveList(), new MoveList(), new MoveList(), new MoveList()};
+        for (String fen : FENS) {
+            state.loadFen(fen);
+            long rootHash = state.hash;
+            walk(state, lists, 3);
+            assertEquals(fen, rootHash, state.hash);
+        }
+    }
+
+    private static void walk(BoardState state, MoveList[] lists, int depth) {
+        assertEquals(state.toFen(), state.computeHash(), state.hash);
+        if (depth == 0) {
+            return;
+        }
+        MoveList moves = lists[depth];
+        MoveGenerator.generateLegal(state, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            long before = state.hash;
+            state.makeMove(moves.get(i));
+            walk(state, lists, depth - 1);
+            state.unmakeMove();
+            assertEquals(before, state.hash);
+        }
+    }
+
+    @Test
+    public void transpositionsShareKey() {
+        BoardState a = new BoardState();
+        a.loadFen(BoardState.START_FEN);
+        BoardState b = new BoardState();
+        b.loadFen(BoardState.START_FEN);
+
+        // 1. Nf3 Nf6 2. Nc3 and 1. Nc3 Nf6 2. Nf3 reach the same position
+        a.makeMove(MoveGenerator.encode(62, 45, MoveGenerator.FLAG_NORMAL, PieceType.NONE));
+        a.makeMove(MoveGenerator.encode(6, 21, MoveGenerator.FLAG_NORMAL, PieceType.NONE));
+        a.makeMove(MoveGenerator.encode(57, 42, MoveGenerator.FLAG_NORMAL, PieceType.NONE));
+        b.makeMove(MoveGenerator.encode(57, 42, MoveGenerator.FLAG_NORMAL, PieceType.NONE));
+        b.makeMove(MoveGenerator.encode(6, 21, MoveGenerator.FLAG_NORMAL, PieceType.NONE));
+        b.makeMove(MoveGenerator.encode(62, 45, MoveGenerator.FLAG_NORMAL, PieceType.NONE));
+        assertEquals(a.hash, b.hash);
+
+        // The same pieces with the other side to move are a different position
+        BoardState c = new BoardState();
+        c.loadFen(a.toFen().replace(" b ", " w "));
+        assertNotEquals(a.hash, c.hash);
+    }
+
+    @Test
+    public void uncapturableEnPassantSquareIsIgnored() {
+        BoardState withSquare = new BoardState();
+        withSquare.loadFen("4k3/8/8/8/4P3/8/8/4K3 b - e3 0 1");
+        BoardState withoutSquare = new BoardState();
+        withoutSquare.loadFen("4k3/8/8/8/4P3/8/8/4K3 b - - 0 1");
+        assertEquals(withoutSquare.hash, withSquare.hash);
+
+        BoardState capturable = new BoardState();
+        capturable.loadFen("4k3/8/8/8/3pP3/8/8/4K3 b - e3 0 1");
+        BoardState notCapturable = new BoardState();
+        notCapturable.loadFen("4k3/8/8/8/3pP3/8/8/4K3 b - - 0 1");
+        assertNotEquals(notCapturable.hash, capturable.hash);
+    }
+
+    @Test
+    public void chessboardPromotionUpdatesKey() {
+        Chessboard board = new Chessboard();
+        board.loadFen("4k3/1P6/8/8/8/8/8/4K3 w - - 0 1");
+        board.makeMove(new Move(board.getPiece(1, 1), 1, 0));
+
+        // Without a listener the pawn promotes to a queen straight away
+        assertEquals("Queen", board.getPiece(1, 0).name);
+        assertEquals(board.position.computeHash(), board.getPositionHash());
+
+        BoardState expected = new BoardState();
+        expected.loadFen("1Q2k3/8/8/8/8/8/8/4K3 b - - 0 1");
+        assertEquals(expected.hash, board.getPositionHash());
+    }
+}